@@ -0,0 +1,25 @@
+package com.proconnect.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs on Spring Boot's default single-threaded scheduler, and
+ * {@code @Async} methods on Boot's applicationTaskExecutor. Jobs share the one scheduler thread,
+ * so anything slow they trigger (email, SSE fan-out) is handed to an @Async listener.
+ * Long jobs (the read-model backfill) are @Async themselves, so the scheduler thread only starts them.
+ *
+ * Jobs:
+ *   LocationUpdateBuffer.flush        — writes buffered location pings (app.location.flush-interval-ms)
+ *   OpenJobRegistry.resync            — reloads the open-job registry from the DB (app.jobs.registry.resync-ms)
+ *   JobExpiryService.tick             — expires jobs due on the timing wheel (app.jobs.expiry.tick-ms)
+ *   JobExpiryService.sweepOverdue     — catches jobs the wheel missed (app.jobs.expiry.sweep-ms)
+ *   JobClaimService.purgeClaims       — drops stale in-memory accept claims (app.jobs.claim.ttl-ms)
+ *   SearchReadModelWriter.backfill    — rewrites the search read model (app.search.read-model.backfill-cron)
+ */
+@Configuration
+@EnableScheduling
+@EnableAsync
+public class SchedulingConfig {
+}
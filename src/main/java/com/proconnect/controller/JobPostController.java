@@ -2,13 +2,19 @@ package com.proconnect.controller;
 
 import com.proconnect.dto.JobPostDTO;
 import com.proconnect.service.JobPostService;
+import com.proconnect.service.OpenJobRegistry;
+import com.proconnect.service.OpenJobWaiters;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 
@@ -20,6 +26,7 @@ import java.util.Map;
  *   POST /api/jobs              — customer posts a job
  *
  * Authenticated (professional):
+ *   GET  /api/jobs/open         — open jobs near the professional (?wait= to long-poll)
  *   POST /api/jobs/{id}/accept  — professional accepts a job
  */
 @RestController
@@ -29,6 +36,7 @@ import java.util.Map;
 public class JobPostController {
 
     private final JobPostService jobPostService;
+    private final OpenJobWaiters openJobWaiters;
 
     /**
      * Customer posts a broadcast job request.
@@ -62,16 +70,86 @@ public class JobPostController {
 
     /**
      * Professional polls for open broadcast jobs near their location.
-     * Called every ~10s from the dashboard — multi-server safe (reads from DB).
+     * Called every ~10s from the dashboard — answered from the in-memory open-job registry.
+     *
+     * Every response carries an ETag identifying the returned set of jobs. Sending it back
+     * (If-None-Match, or ?since= for clients that can't set headers) gets an empty 304
+     * while nothing has changed.
      */
     @GetMapping("/open")
     public ResponseEntity<List<JobPostDTO>> getOpenJobs(
-            @AuthenticationPrincipal Long professionalId) {
+            @AuthenticationPrincipal Long professionalId,
+            @RequestParam(required = false) String since,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
 
         if (professionalId == null) {
             return ResponseEntity.status(401).build();
         }
-        return ResponseEntity.ok(jobPostService.getOpenJobsForProfessional(professionalId));
+        OpenJobRegistry.Snapshot snapshot = jobPostService.getOpenJobsForProfessional(professionalId);
+        return openJobsResponse(snapshot, knownToken(since, ifNoneMatch));
+    }
+
+    /**
+     * Long-poll variant: GET /api/jobs/open?wait=25s (plain numbers are seconds).
+     * For clients behind proxies that kill the SSE stream.
+     *
+     * If the open jobs already differ from the client's token (or it sent none), answers at once.
+     * Otherwise the request parks without holding a servlet thread and is answered the moment a
+     * matching job is broadcast to this professional — or with 304 at the deadline.
+     * The wait is capped at app.jobs.long-poll.max-wait.
+     */
+    @GetMapping(value = "/open", params = "wait")
+    public DeferredResult<ResponseEntity<?>> waitForOpenJobs(
+            @AuthenticationPrincipal Long professionalId,
+            @RequestParam String wait,
+            @RequestParam(required = false) String since,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+
+        if (professionalId == null) {
+            return completed(ResponseEntity.status(401).build());
+        }
+        Duration timeout;
+        try {
+            timeout = openJobWaiters.clamp(DurationStyle.detectAndParse(wait, ChronoUnit.SECONDS));
+        } catch (IllegalArgumentException e) {
+            return completed(ResponseEntity.badRequest().body(Map.of("message", "Invalid wait: " + wait)));
+        }
+        String known = knownToken(since, ifNoneMatch);
+
+        DeferredResult<ResponseEntity<?>> result = new DeferredResult<>(Math.max(timeout.toMillis(), 1));
+        Runnable answerIfChanged = () -> {
+            OpenJobRegistry.Snapshot snapshot = jobPostService.getOpenJobsForProfessional(professionalId);
+            if (!snapshot.token().equals(known)) result.setResult(openJobsResponse(snapshot, known));
+        };
+        result.onTimeout(() -> result.setResult(
+                openJobsResponse(jobPostService.getOpenJobsForProfessional(professionalId), known)));
+
+        // Park before the first check so a broadcast in between still wakes this request
+        openJobWaiters.park(professionalId, result, answerIfChanged);
+        answerIfChanged.run();
+        return result;
+    }
+
+    private static ResponseEntity<List<JobPostDTO>> openJobsResponse(OpenJobRegistry.Snapshot snapshot, String known) {
+        String etag = "\"" + snapshot.token() + "\"";
+        if (snapshot.token().equals(known)) {
+            return ResponseEntity.status(304).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(snapshot.jobs());
+    }
+
+    /** The token the client last saw — ?since= wins over If-None-Match */
+    private static String knownToken(String since, String ifNoneMatch) {
+        if (since != null && !since.isBlank()) return since;
+        if (ifNoneMatch == null) return null;
+        String tag = ifNoneMatch.startsWith("W/") ? ifNoneMatch.substring(2) : ifNoneMatch;
+        return tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"") ? tag.substring(1, tag.length() - 1) : tag;
+    }
+
+    private static DeferredResult<ResponseEntity<?>> completed(ResponseEntity<?> response) {
+        DeferredResult<ResponseEntity<?>> result = new DeferredResult<>();
+        result.setResult(response);
+        return result;
     }
 
     /**
@@ -4,17 +4,27 @@ import com.proconnect.dto.AvailabilityDTO;
 import com.proconnect.dto.ProfessionalDTO;
 import com.proconnect.dto.ProfessionalSearchCriteria;
 import com.proconnect.dto.SearchResultDTO;
+import com.proconnect.dto.SuggestionDTO;
 import com.proconnect.repository.ContactViewRepository;
+import com.proconnect.search.SearchCursor;
+import com.proconnect.search.SearchSort;
+import com.proconnect.service.ProfessionalExportService;
 import com.proconnect.service.ProfessionalService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +37,7 @@ public class ProfessionalController {
 
     private final ProfessionalService professionalService;
     private final ContactViewRepository contactViewRepository;
+    private final ProfessionalExportService exportService;
 
     /**
      * Search / list professionals.
@@ -34,7 +45,7 @@ public class ProfessionalController {
      * Accepts both "subcategories" (new) and "skills" (legacy alias) params.
      */
     @GetMapping
-    public ResponseEntity<SearchResultDTO> getAllProfessionals(
+    public ResponseEntity<?> getAllProfessionals(
         @RequestParam(required = false)                     String       q,
         @RequestParam(required = false)                     String       city,
         @RequestParam(required = false)                     String       location,    // alias for city
@@ -51,10 +62,29 @@ public class ProfessionalController {
         @RequestParam(required = false)                     Double       lng,         // geo: searcher longitude
         @RequestParam(required = false, defaultValue = "3") double       radius,      // geo: radius in km
         @RequestParam(defaultValue = "0")                   int          page,
-        @RequestParam(defaultValue = "10")                  int          pageSize
+        @RequestParam(defaultValue = "10")                  int          pageSize,
+        @RequestParam(required = false)                     String       cursor,      // keyset token from nextCursor
+        @RequestParam(required = false)                     String       view,        // full (default) | card
+        @RequestParam(required = false)                     String       sort         // relevance (default) | distance | blended
     ) {
-        log.info("GET /api/professionals — q={}, city={}, location={}, state={}, country={}, remote={}, available={}, subcategories={}, skills={}, categories={}, category={}, area={}, lat={}, lng={}, radius={}, page={}, pageSize={}",
-            q, city, location, state, country, remote, available, subcategories, skills, categories, category, area, lat, lng, radius, page, pageSize);
+        log.info("GET /api/professionals — q={}, city={}, location={}, state={}, country={}, remote={}, available={}, subcategories={}, skills={}, categories={}, category={}, area={}, lat={}, lng={}, radius={}, page={}, pageSize={}, view={}, sort={}",
+            q, city, location, state, country, remote, available, subcategories, skills, categories, category, area, lat, lng, radius, page, pageSize, view, sort);
+
+        if (cursor != null && !cursor.isBlank() && SearchCursor.decode(cursor).isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid cursor"));
+        }
+        if (view != null && !view.isBlank() && !view.equalsIgnoreCase("card") && !view.equalsIgnoreCase("full")) {
+            return ResponseEntity.badRequest().body(Map.of("error", "view must be 'full' or 'card'"));
+        }
+        SearchSort searchSort;
+        try {
+            searchSort = SearchSort.from(sort);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "sort must be 'relevance', 'distance' or 'blended'"));
+        }
+        if (searchSort != SearchSort.RELEVANCE && (lat == null || lng == null)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "sort=" + sort.trim() + " needs lat and lng"));
+        }
 
         // Normalise aliases: ?location= → city, ?category= → categories list
         String effectiveCity = (city != null && !city.isBlank()) ? city
@@ -79,11 +109,42 @@ public class ProfessionalController {
             .radiusKm(radius)
             .page(page)
             .pageSize(pageSize)
+            .cursor(cursor)
+            .view(view)
+            .sort(sort)
             .build();
 
         return ResponseEntity.ok(professionalService.searchProfessionals(criteria));
     }
 
+    /**
+     * Typeahead — ranked completions across categories, subcategories, service areas,
+     * cities and professional names. Meant for every keystroke, unlike the full search.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDTO>> suggest(
+        @RequestParam(required = false)     String prefix,
+        @RequestParam(defaultValue = "8")   int    limit
+    ) {
+        if (prefix == null || prefix.isBlank()) return ResponseEntity.ok(List.of());
+        return ResponseEntity.ok(professionalService.suggest(prefix, Math.max(1, limit)));
+    }
+
+    /**
+     * Bulk export — every professional as newline-delimited JSON, streamed from a DB cursor.
+     * Pass the last seen {@code updatedAt} as {@code updatedSince} to pull only what changed.
+     */
+    @GetMapping(value = "/export", produces = ProfessionalExportService.NDJSON)
+    public ResponseEntity<StreamingResponseBody> export(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince,
+        HttpServletRequest request
+    ) {
+        log.info("GET /api/professionals/export — updatedSince={}", updatedSince);
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_TYPE, ProfessionalExportService.NDJSON)
+            .body(exportService.open(updatedSince, WebAsyncUtils.getAsyncManager(request)));
+    }
+
     /** Look up a professional by numeric ID */
     @GetMapping("/{id}")
     public ResponseEntity<ProfessionalDTO> getProfessionalById(@PathVariable Long id) {
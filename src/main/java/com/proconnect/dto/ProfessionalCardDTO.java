@@ -0,0 +1,32 @@
+package com.proconnect.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Compact search result for list UIs — returned in place of {@link ProfessionalDTO}
+ * when searching with ?view=card.
+ */
+@Data
+public class ProfessionalCardDTO {
+
+    private Long         id;
+    private String       slug;
+    /** Display name, or first + last name when none is set */
+    private String       name;
+    private String       headline;
+    private String       avatarUrl;
+    private String       category;
+    private BigDecimal   rating;
+    private Integer      reviewCount;
+    private String       city;
+    /** First few subcategories, alphabetically */
+    private List<String> subcategories;
+    private Boolean      isAvailable;
+    /** Km from the searcher — set only on geo search results */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double       distanceKm;
+}
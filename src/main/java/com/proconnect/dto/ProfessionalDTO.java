@@ -1,5 +1,6 @@
 package com.proconnect.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -42,6 +43,10 @@ public class ProfessionalDTO {
     /** Areas/localities this professional serves — e.g. ["Indiranagar", "Koramangala"] */
     private List<String> serviceAreas;
 
+    /** Km from the searcher — set only on geo search results */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanceKm;
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -27,6 +27,10 @@ public class ProfessionalSearchCriteria {
     private List<String> categories;
     @Builder.Default private int page = 0;
     @Builder.Default private int pageSize = 10;
+    /** Keyset token from a previous page's nextCursor — takes precedence over page */
+    private String cursor;
+    /** Result shape: full (default) | card — see {@link ProfessionalCardDTO} */
+    private String view;
 
     // ── Geo / radius search ──────────────────────────────────────────────────
     /** Customer/searcher latitude — enables radius search when combined with lng */
@@ -35,6 +39,8 @@ public class ProfessionalSearchCriteria {
     private Double lng;
     /** Search radius in kilometres — defaults to 3 km when lat/lng provided */
     @Builder.Default private double radiusKm = 3.0;
+    /** relevance (default) | distance | blended — the last two need lat/lng, see {@link com.proconnect.search.SearchSort} */
+    private String sort;
 
     public boolean hasGeoFilter() {
         return lat != null && lng != null;
@@ -60,6 +66,10 @@ public class ProfessionalSearchCriteria {
         return categories != null && !categories.isEmpty();
     }
 
+    public boolean isCardView() {
+        return "card".equalsIgnoreCase(view);
+    }
+
     /** Combined subcategory list (merges subcategories + legacy skills param) */
     public List<String> effectiveSubcategories() {
         if (subcategories != null && !subcategories.isEmpty()) return subcategories;
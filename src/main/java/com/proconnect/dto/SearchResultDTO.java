@@ -1,5 +1,6 @@
 package com.proconnect.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,17 +18,28 @@ import java.util.Map;
 @AllArgsConstructor
 public class SearchResultDTO {
 
+    /** Full profiles — the default view. Absent with ?view=card. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<ProfessionalDTO> results;
+    /** Result cards — only with ?view=card, instead of {@link #results}. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<ProfessionalCardDTO> cards;
 
     // Pagination
     private int page;
     private int pageSize;
     private long total;
     private int totalPages;
+    /** True when total is a lower bound (capped count mode) — render as e.g. "1000+" */
+    private boolean totalCapped;
+    /** Opaque keyset token for the next page — pass back as ?cursor=. Null on the last page. */
+    private String nextCursor;
 
     // Echo back what was searched
     private String query;
     private String location;
+    /** Order actually applied: relevance | distance | blended (always relevance without lat/lng) */
+    private String sort;
 
     /**
      * Facets — counts per filter dimension.
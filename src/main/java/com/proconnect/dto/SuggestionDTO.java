@@ -0,0 +1,29 @@
+package com.proconnect.dto;
+
+import com.proconnect.search.SuggestionIndex;
+import lombok.Data;
+
+/**
+ * One typeahead completion for GET /api/professionals/suggest.
+ */
+@Data
+public class SuggestionDTO {
+
+    /** Display text — e.g. "Drain Cleaning", "HSR Layout", "Ravi Kumar" */
+    private String text;
+    /** category | subcategory | area | city | professional */
+    private String type;
+    /** Professionals behind the suggestion (1 for a professional) */
+    private int    count;
+    /** Set for type=professional — link straight to the profile */
+    private Long   professionalId;
+
+    public static SuggestionDTO from(SuggestionIndex.Suggestion s) {
+        SuggestionDTO dto = new SuggestionDTO();
+        dto.text           = s.text();
+        dto.type           = s.kind().name().toLowerCase();
+        dto.count          = s.count();
+        dto.professionalId = s.professionalId();
+        return dto;
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -12,6 +13,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "categories")
+@BatchSize(size = Professional.BATCH_SIZE)   // lazy category proxies resolve together
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
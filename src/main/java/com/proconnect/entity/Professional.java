@@ -2,6 +2,7 @@ package com.proconnect.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,11 +13,36 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+/**
+ * Fetch plans — every association is lazy; pick the plan that matches the use case:
+ * <ul>
+ *   <li>{@link #GRAPH_SUMMARY} — category joined; for lists and bulk reads</li>
+ *   <li>{@link #GRAPH_PROFILE} — category and subcategories joined; for a single full profile</li>
+ *   <li>{@code findAllForDisplay} — a page of search results, one fetch-join statement per association</li>
+ * </ul>
+ * Whatever a plan leaves out loads on first touch in batches of {@link #BATCH_SIZE} professionals
+ * ({@code IN (…)} over the ids in the persistence context), never one statement per row.
+ */
 @Entity
 @Table(name = "professionals")
+@NamedEntityGraphs({
+    @NamedEntityGraph(name = Professional.GRAPH_SUMMARY, attributeNodes = @NamedAttributeNode("category")),
+    @NamedEntityGraph(name = Professional.GRAPH_PROFILE,
+        attributeNodes = {
+            @NamedAttributeNode("category"),
+            @NamedAttributeNode(value = "subcategories", subgraph = "subcategory")
+        },
+        subgraphs = @NamedSubgraph(name = "subcategory", attributeNodes = @NamedAttributeNode("category")))
+})
 @Data
 public class Professional {
 
+    public static final String GRAPH_SUMMARY = "Professional.summary";
+    public static final String GRAPH_PROFILE = "Professional.profile";
+
+    /** Owners whose lazy collections are initialised together */
+    public static final int BATCH_SIZE = 50;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -114,6 +140,7 @@ public class Professional {
 
     /** Subcategories (formerly "skills") — many-to-many via professional_subcategories */
     @ManyToMany
+    @BatchSize(size = BATCH_SIZE)
     @JoinTable(
         name = "professional_subcategories",
         joinColumns = @JoinColumn(name = "professional_id"),
@@ -122,12 +149,15 @@ public class Professional {
     private Set<Subcategory> subcategories = new HashSet<>();
 
     @OneToMany(mappedBy = "professional", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = BATCH_SIZE)
     private List<ServiceOffering> services = new ArrayList<>();
 
     @OneToMany(mappedBy = "professional", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = BATCH_SIZE)
     private List<ServiceArea> serviceAreas = new ArrayList<>();
 
     @OneToMany(mappedBy = "professional", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = BATCH_SIZE)
     private List<SocialLink> socialLinks = new ArrayList<>();
 
     @CreationTimestamp
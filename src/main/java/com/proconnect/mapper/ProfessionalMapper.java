@@ -8,6 +8,7 @@ import com.proconnect.entity.ServiceOffering;
 import com.proconnect.entity.Subcategory;
 import com.proconnect.entity.SocialLink;
 import com.proconnect.repository.CategoryRepository;
+import com.proconnect.repository.ProfessionalSearchRepository;
 import com.proconnect.repository.SubcategoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -69,6 +70,24 @@ public class ProfessionalMapper {
         return dto;
     }
 
+    public ProfessionalCardDTO toCardDTO(ProfessionalSearchRepository.CardRow row) {
+        if (row == null) return null;
+
+        ProfessionalCardDTO dto = new ProfessionalCardDTO();
+        dto.setId(row.id());
+        dto.setSlug(row.slug());
+        dto.setName(row.name());
+        dto.setHeadline(row.headline());
+        dto.setAvatarUrl(row.avatarUrl());
+        dto.setCategory(row.category());
+        dto.setRating(row.rating());
+        dto.setReviewCount(row.reviewCount());
+        dto.setCity(row.city());
+        dto.setSubcategories(row.topSubcategories());
+        dto.setIsAvailable(row.available());
+        return dto;
+    }
+
     public Professional toEntity(ProfessionalDTO dto) {
         if (dto == null) return null;
         Professional entity = new Professional();
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -14,7 +15,8 @@ public interface JobPostRepository extends JpaRepository<JobPost, Long> {
     /**
      * Find all OPEN job posts whose category matches AND whose location
      * is within radiusKm of the given coordinates.
-     * Uses the same Haversine formula already used in ProfessionalRepository.
+     * Uses the same Haversine formula already used in ProfessionalRepository,
+     * after narrowing to the geo cells around the point (idx_job_posts_open_geo_cell).
      */
     @Query(nativeQuery = true, value = """
         SELECT j.*
@@ -22,6 +24,7 @@ public interface JobPostRepository extends JpaRepository<JobPost, Long> {
         WHERE  j.status   = 'OPEN'
           AND  LOWER(j.category) = LOWER(:category)
           AND  j.lat IS NOT NULL AND j.lng IS NOT NULL
+          AND  j.geo_cell IN (SELECT geo_cells_within(CAST(:lat AS FLOAT8), CAST(:lng AS FLOAT8), CAST(:radiusKm AS FLOAT8)))
           AND  (6371 * acos(LEAST(1.0,
                    cos(radians(CAST(:lat AS FLOAT8))) * cos(radians(CAST(j.lat AS FLOAT8)))
                    * cos(radians(CAST(j.lng AS FLOAT8)) - radians(CAST(:lng AS FLOAT8)))
@@ -47,6 +50,7 @@ public interface JobPostRepository extends JpaRepository<JobPost, Long> {
           AND  j.expires_at > NOW()
           AND  LOWER(j.category) = LOWER(:category)
           AND  j.lat IS NOT NULL AND j.lng IS NOT NULL
+          AND  j.geo_cell IN (SELECT geo_cells_within(CAST(:lat AS FLOAT8), CAST(:lng AS FLOAT8), CAST(:radiusKm AS FLOAT8)))
           AND  (6371 * acos(LEAST(1.0,
                    cos(radians(CAST(:lat AS FLOAT8))) * cos(radians(CAST(j.lat AS FLOAT8)))
                    * cos(radians(CAST(j.lng AS FLOAT8)) - radians(CAST(:lng AS FLOAT8)))
@@ -60,6 +64,9 @@ public interface JobPostRepository extends JpaRepository<JobPost, Long> {
             @Param("radiusKm")  double radiusKm,
             @Param("category")  String category);
 
+    /** Every job still open — loads the in-memory open-job registry. */
+    List<JobPost> findByStatusAndExpiresAtAfter(String status, LocalDateTime now);
+
     /** All job posts accepted by a specific professional — shown in their booking dashboard. */
     List<JobPost> findByAcceptedByIdOrderByCreatedAtDesc(Long professionalId);
 }
@@ -1,6 +1,9 @@
 package com.proconnect.repository;
 
 import com.proconnect.entity.Professional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,10 +13,29 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ProfessionalRepository extends JpaRepository<Professional, Long> {
+public interface ProfessionalRepository extends JpaRepository<Professional, Long>, ProfessionalSearchRepository {
 
     Optional<Professional> findBySlug(String slug);
 
+    // ── Fetch plans (see Professional) ──────────────────────────────────────
+
+    /** A full profile — category and subcategories joined, the rest batch-loaded. */
+    @EntityGraph(Professional.GRAPH_PROFILE)
+    Optional<Professional> findWithProfileById(Long id);
+
+    @EntityGraph(Professional.GRAPH_PROFILE)
+    Optional<Professional> findWithProfileBySlug(String slug);
+
+    /** Every professional, category joined — collections load in batches as they are touched. */
+    @EntityGraph(Professional.GRAPH_SUMMARY)
+    @Query("SELECT p FROM Professional p ORDER BY p.id")
+    List<Professional> findAllSummaries();
+
+    /** One page of professionals, category joined — collections load in batches as they are touched. */
+    @EntityGraph(Professional.GRAPH_SUMMARY)
+    @Query(value = "SELECT p FROM Professional p", countQuery = "SELECT COUNT(p) FROM Professional p")
+    Page<Professional> findSummaryPage(Pageable pageable);
+
     Optional<Professional> findByEmailIgnoreCase(String email);
 
     boolean existsByEmailIgnoreCase(String email);
@@ -74,6 +96,7 @@ public interface ProfessionalRepository extends JpaRepository<Professional, Long
         HAVING (
           :lat IS NULL OR :lng IS NULL
           OR (p.latitude IS NOT NULL AND p.longitude IS NOT NULL
+              AND p.geo_cell IN (SELECT geo_cells_within(CAST(:lat AS FLOAT8), CAST(:lng AS FLOAT8), CAST(:radiusKm AS FLOAT8)))
               AND (6371 * acos(LEAST(1.0, cos(radians(CAST(:lat AS FLOAT8))) * cos(radians(CAST(p.latitude AS FLOAT8)))
                    * cos(radians(CAST(p.longitude AS FLOAT8)) - radians(CAST(:lng AS FLOAT8)))
                    + sin(radians(CAST(:lat AS FLOAT8))) * sin(radians(CAST(p.latitude AS FLOAT8)))))) < CAST(:radiusKm AS FLOAT8))
@@ -131,6 +154,7 @@ public interface ProfessionalRepository extends JpaRepository<Professional, Long
           HAVING (
             :lat IS NULL OR :lng IS NULL
             OR (p.latitude IS NOT NULL AND p.longitude IS NOT NULL
+                AND p.geo_cell IN (SELECT geo_cells_within(CAST(:lat AS FLOAT8), CAST(:lng AS FLOAT8), CAST(:radiusKm AS FLOAT8)))
                 AND (6371 * acos(LEAST(1.0, cos(radians(CAST(:lat AS FLOAT8))) * cos(radians(CAST(p.latitude AS FLOAT8)))
                      * cos(radians(CAST(p.longitude AS FLOAT8)) - radians(CAST(:lng AS FLOAT8)))
                      + sin(radians(CAST(:lat AS FLOAT8))) * sin(radians(CAST(p.latitude AS FLOAT8)))))) < CAST(:radiusKm AS FLOAT8))
@@ -181,6 +205,32 @@ public interface ProfessionalRepository extends JpaRepository<Professional, Long
         """)
     List<Object[]> facetsByServiceArea();
 
+    // Same facets from the professional_search_docs read model — no joins
+
+    @Query(nativeQuery = true, value = """
+        SELECT d.category_name AS name, COUNT(*) AS cnt
+        FROM professional_search_docs d
+        WHERE d.category_name IS NOT NULL
+        GROUP BY d.category_name ORDER BY cnt DESC LIMIT 20
+        """)
+    List<Object[]> docFacetsByCategory();
+
+    @Query(nativeQuery = true, value = """
+        SELECT d.city AS name, COUNT(*) AS cnt
+        FROM professional_search_docs d
+        WHERE d.city <> ''
+        GROUP BY d.city ORDER BY cnt DESC LIMIT 20
+        """)
+    List<Object[]> docFacetsByCity();
+
+    @Query(nativeQuery = true, value = """
+        SELECT a.area_name AS name, COUNT(*) AS cnt
+        FROM professional_search_docs d, unnest(d.service_area_names) AS a(area_name)
+        WHERE a.area_name <> ''
+        GROUP BY a.area_name ORDER BY cnt DESC LIMIT 30
+        """)
+    List<Object[]> docFacetsByServiceArea();
+
     // ─────────────────────────────────────────────────────────────────────────
     // Area name lookup (for natural-language query parsing)
     // ─────────────────────────────────────────────────────────────────────────
@@ -201,31 +251,33 @@ public interface ProfessionalRepository extends JpaRepository<Professional, Long
 
     /**
      * Returns professionals within :radiusKm of (:lat, :lng), ordered by distance.
-     * Only professionals with latitude/longitude set are considered.
+     * Only professionals with latitude/longitude set are considered. The distance is computed
+     * once per candidate (LATERAL, OFFSET 0 so it isn't inlined) and reused for filter and order.
      */
     @Query(nativeQuery = true, value = """
-        SELECT p.*,
-               (6371 * acos(
-                   LEAST(1.0, cos(radians(:lat)) * cos(radians(p.latitude))
-                   * cos(radians(p.longitude) - radians(:lng))
-                   + sin(radians(:lat)) * sin(radians(p.latitude)))
-               )) AS distance_km
+        SELECT p.*, geo.distance_km
         FROM professionals p
         LEFT JOIN categories cat ON cat.id = p.category_id
-        LEFT JOIN professional_subcategories ps ON ps.professional_id = p.id
-        LEFT JOIN subcategories sc               ON sc.id = ps.subcategory_id
+        CROSS JOIN LATERAL (
+            SELECT 6371 * acos(
+                       LEAST(1.0, cos(radians(:lat)) * cos(radians(p.latitude))
+                       * cos(radians(p.longitude) - radians(:lng))
+                       + sin(radians(:lat)) * sin(radians(p.latitude)))
+                   ) AS distance_km
+            OFFSET 0
+        ) geo
         WHERE p.latitude  IS NOT NULL
           AND p.longitude IS NOT NULL
+          AND p.geo_cell IN (SELECT geo_cells_within(CAST(:lat AS FLOAT8), CAST(:lng AS FLOAT8), CAST(:radiusKm AS FLOAT8)))
           AND (:available IS NULL OR p.is_available = :available)
           AND (:category  IS NULL OR :category = '' OR LOWER(cat.name) = LOWER(:category))
-          AND (:subcategoryNames IS NULL OR LOWER(sc.name) = ANY(LOWER(CAST(:subcategoryNames AS TEXT))\\:\\:TEXT[]))
-        GROUP BY p.id
-        HAVING (6371 * acos(
-                   LEAST(1.0, cos(radians(:lat)) * cos(radians(p.latitude))
-                   * cos(radians(p.longitude) - radians(:lng))
-                   + sin(radians(:lat)) * sin(radians(p.latitude)))
-               )) < :radiusKm
-        ORDER BY distance_km ASC
+          AND (:subcategoryNames IS NULL OR EXISTS (
+                  SELECT 1 FROM professional_subcategories ps
+                  JOIN subcategories sc ON sc.id = ps.subcategory_id
+                  WHERE ps.professional_id = p.id
+                    AND LOWER(sc.name) = ANY(LOWER(CAST(:subcategoryNames AS TEXT))\\:\\:TEXT[])))
+          AND geo.distance_km < :radiusKm
+        ORDER BY geo.distance_km ASC
         LIMIT :pageSize OFFSET :offset
         """)
     List<Professional> searchByRadius(
@@ -247,6 +299,7 @@ public interface ProfessionalRepository extends JpaRepository<Professional, Long
         LEFT JOIN subcategories sc               ON sc.id = ps.subcategory_id
         WHERE p.latitude  IS NOT NULL
           AND p.longitude IS NOT NULL
+          AND p.geo_cell IN (SELECT geo_cells_within(CAST(:lat AS FLOAT8), CAST(:lng AS FLOAT8), CAST(:radiusKm AS FLOAT8)))
           AND (:available IS NULL OR p.is_available = :available)
           AND (:category  IS NULL OR :category = '' OR LOWER(cat.name) = LOWER(:category))
           AND (:subcategoryNames IS NULL OR LOWER(sc.name) = ANY(LOWER(CAST(:subcategoryNames AS TEXT))\\:\\:TEXT[]))
@@ -276,6 +329,7 @@ public interface ProfessionalRepository extends JpaRepository<Professional, Long
         WHERE  p.is_available = true
           AND  p.latitude  IS NOT NULL
           AND  p.longitude IS NOT NULL
+          AND  p.geo_cell IN (SELECT geo_cells_within(CAST(:lat AS FLOAT8), CAST(:lng AS FLOAT8), CAST(:radiusKm AS FLOAT8)))
           AND  LOWER(cat.name) = LOWER(:category)
           AND  (6371 * acos(LEAST(1.0,
                    cos(radians(CAST(:lat AS FLOAT8))) * cos(radians(CAST(p.latitude AS FLOAT8)))
@@ -0,0 +1,67 @@
+package com.proconnect.repository;
+
+import com.proconnect.entity.Professional;
+import com.proconnect.search.SearchCursor;
+import com.proconnect.search.SearchFilters;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Custom fragment of {@link ProfessionalRepository} for search statements that
+ * need more than a single @Query can express — see {@link ProfessionalSearchRepositoryImpl}.
+ */
+public interface ProfessionalSearchRepository {
+
+    /**
+     * @param total       exact total, or the cap when {@code totalCapped} is set
+     * @param totalCapped true when there are at least {@code total} matches and counting stopped there
+     * @param next        position after the last row, or null when this is the last page
+     * @param distancesKm distance from the searcher per id — empty without a geo filter
+     */
+    record SearchPage(List<Long> ids, long total, boolean totalCapped, SearchCursor next,
+                      Map<Long, Double> distancesKm) {}
+
+    /** Ranked page ids + exact total in one statement. */
+    SearchPage searchWithTotal(SearchFilters filters, int pageSize, int offset);
+
+    /**
+     * Ranked page ids + total in one statement, ranking and counting at most {@code cap} + 1 matches.
+     * Only valid while {@code offset + pageSize <= cap}.
+     */
+    SearchPage searchWithCappedTotal(SearchFilters filters, int pageSize, int offset, int cap);
+
+    /**
+     * Keyset page: the {@code pageSize} best matches ranked strictly after {@code after}.
+     * Nothing before the cursor is sorted or returned, however deep the page. Carries no
+     * total (-1) — count with {@link #countMatches}.
+     */
+    SearchPage searchAfter(SearchFilters filters, int pageSize, SearchCursor after);
+
+    /** Exact number of matches for the filters. */
+    long countMatches(SearchFilters filters);
+
+    /** Number of matches, counting no further than {@code cap} + 1. */
+    long countMatches(SearchFilters filters, int cap);
+
+    /** Facet dimensions, with the same limits as the whole-catalogue facet queries */
+    enum Facet { CATEGORY, CITY, SERVICE_AREA }
+
+    /** (name, count) rows for one facet over every match of the filters, most frequent first. */
+    List<Object[]> facetMatches(SearchFilters filters, Facet facet);
+
+    /**
+     * Professionals with category, subcategories, services, service areas and social links
+     * loaded — five statements whatever the page size. Returned in {@code ids} order.
+     */
+    List<Professional> findAllForDisplay(List<Long> ids);
+
+    /** Just what a result card shows — no bio, contact details or child collections. */
+    record CardRow(Long id, String slug, String name, String headline, String avatarUrl, String category,
+                   BigDecimal rating, Integer reviewCount, String city, Boolean available,
+                   List<String> topSubcategories) {}
+
+    /** Card rows for {@code ids} in one statement, returned in {@code ids} order. */
+    List<CardRow> findCards(List<Long> ids);
+}
@@ -0,0 +1,328 @@
+package com.proconnect.repository;
+
+import com.proconnect.entity.Professional;
+import com.proconnect.search.SearchCursor;
+import com.proconnect.search.SearchFilters;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Two-phase search. Phase 1 runs the search predicates but returns only ranked ids
+ * (plus score and total, so one round trip serves page, count and cursor); phase 2 loads
+ * the page's professionals and their collections in a fixed number of batched statements.
+ * Same filters and ranking as {@link ProfessionalRepository#searchProfessionals}; the SQL
+ * itself comes from {@link ProfessionalSearchSqlBuilder}, with only the active filters.
+ */
+public class ProfessionalSearchRepositoryImpl implements ProfessionalSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /** tables (default) | docs — docs reads the professional_search_docs read model */
+    @Value("${app.search.read-model:tables}")
+    private String readModel;
+
+    private final ProfessionalSearchSqlBuilder tablesSql = new ProfessionalSearchSqlBuilder(ProfessionalSearchSqlBuilder.Source.TABLES);
+    private final ProfessionalSearchSqlBuilder docsSql   = new ProfessionalSearchSqlBuilder(ProfessionalSearchSqlBuilder.Source.DOCS);
+
+    /** Ratings sort NULLS LAST; as {@link SearchCursor#NO_RATING} the same order survives a keyset comparison */
+    private static final String RATING = "COALESCE(CAST(p.rating AS FLOAT8), " + SearchCursor.NO_RATING + ")";
+
+    // Phase 1 statements return only (id, score, rating, total_count, remaining, distance_km) per row
+    // (keyset pages drop the two counts); remaining = matches from this page's first row onward,
+    // distance_km is null without a geo filter.
+    // Each template receives the FROM … WHERE block, score and distance expressions for the active filters.
+
+    static String inlineTotal(String match, String score, String distance) {
+        return "SELECT p.id AS id, CAST(" + score + " AS FLOAT8) AS score, " + RATING + " AS rating,\n" +
+               "       COUNT(*) OVER () AS total_count, COUNT(*) OVER () - :offset AS remaining,\n" +
+               "       CAST(" + distance + " AS FLOAT8) AS distance_km\n" + match +
+               "ORDER BY score DESC, rating DESC, id\n" +
+               "LIMIT :pageSize OFFSET :offset";
+    }
+
+    /** Ranks at most :cap + 1 matches (bounded top-N sort), pages and counts from that set. */
+    private static String cappedTotal(String match, String score, String distance) {
+        return "WITH ranked AS (\n" +
+               "  SELECT p.id AS id, CAST(" + score + " AS FLOAT8) AS score, " + RATING + " AS rating,\n" +
+               "         CAST(" + distance + " AS FLOAT8) AS distance_km\n" + match +
+               "  ORDER BY score DESC, rating DESC, id\n" +
+               "  LIMIT :capPlusOne\n" +
+               ")\n" +
+               "SELECT r.id, r.score, r.rating, (SELECT COUNT(*) FROM ranked) AS total_count,\n" +
+               "       (SELECT COUNT(*) FROM ranked) - :offset AS remaining, r.distance_km\n" +
+               "FROM ranked r\n" +
+               "ORDER BY r.score DESC, r.rating DESC, r.id\n" +
+               "LIMIT :pageSize OFFSET :offset";
+    }
+
+    /**
+     * Keyset page: the cursor comparison sits in the WHERE, so the sort only sees matches after
+     * it and stops at :pageSizePlusOne. The extra row says whether another page exists; there is
+     * no total here — the caller counts separately. Row layout: [id, score, rating, distance_km].
+     */
+    private static String keyset(String match, String score, String distance) {
+        String rowScore = "CAST(" + score + " AS FLOAT8)";
+        return "SELECT p.id AS id, " + rowScore + " AS score, " + RATING + " AS rating,\n" +
+               "       CAST(" + distance + " AS FLOAT8) AS distance_km\n" + match +
+               "  AND (" + rowScore + " < :afterScore\n" +
+               "       OR (" + rowScore + " = :afterScore AND (" + RATING + " < :afterRating\n" +
+               "           OR (" + RATING + " = :afterRating AND p.id > :afterId))))\n" +
+               "ORDER BY score DESC, rating DESC, id\n" +
+               "LIMIT :pageSizePlusOne";
+    }
+
+    private static String count(String match, String score, String distance) {
+        return "SELECT COUNT(*)\n" + match;
+    }
+
+    /** Counts no further than :capPlusOne matches. */
+    private static String cappedCount(String match, String score, String distance) {
+        return "SELECT COUNT(*) FROM (SELECT 1 " + match + "LIMIT :capPlusOne) m";
+    }
+
+    // Facets over the matches — the same FROM … WHERE block as the page, grouped instead of ranked.
+    // Limits and name filters follow facetsByCategory / facetsByCity / facetsByServiceArea.
+
+    private static String categoryFacet(String match, String score, String distance) {
+        return "SELECT cat.name AS name, COUNT(*) AS cnt\n" + match +
+               "  AND cat.name IS NOT NULL\n" +
+               "GROUP BY cat.name ORDER BY cnt DESC LIMIT 20";
+    }
+
+    private static String docCategoryFacet(String match, String score, String distance) {
+        return "SELECT p.category_name AS name, COUNT(*) AS cnt\n" + match +
+               "  AND p.category_name IS NOT NULL\n" +
+               "GROUP BY p.category_name ORDER BY cnt DESC LIMIT 20";
+    }
+
+    private static String cityFacet(String match, String score, String distance) {
+        return "SELECT p.city AS name, COUNT(*) AS cnt\n" + match +
+               "  AND p.city IS NOT NULL AND p.city <> ''\n" +
+               "GROUP BY p.city ORDER BY cnt DESC LIMIT 20";
+    }
+
+    private static String areaFacet(String match, String score, String distance) {
+        return "WITH matched AS (SELECT p.id " + match + ")\n" +
+               "SELECT psa.area_name AS name, COUNT(DISTINCT psa.professional_id) AS cnt\n" +
+               "FROM professional_service_areas psa JOIN matched m ON m.id = psa.professional_id\n" +
+               "WHERE psa.area_name IS NOT NULL AND psa.area_name <> ''\n" +
+               "GROUP BY psa.area_name ORDER BY cnt DESC LIMIT 30";
+    }
+
+    private static String docAreaFacet(String match, String score, String distance) {
+        return "WITH matched AS (SELECT p.service_area_names " + match + ")\n" +
+               "SELECT a.area_name AS name, COUNT(*) AS cnt\n" +
+               "FROM matched m, unnest(m.service_area_names) AS a(area_name)\n" +
+               "WHERE a.area_name <> ''\n" +
+               "GROUP BY a.area_name ORDER BY cnt DESC LIMIT 30";
+    }
+
+    // Phase 2 — one statement per association, each bounded by the page size.
+    // Separate statements because fetching several List collections at once is a cartesian product.
+
+    private static final List<String> HYDRATE_JPQL = List.of(
+        "SELECT p FROM Professional p LEFT JOIN FETCH p.category WHERE p.id IN :ids",
+        "SELECT p FROM Professional p LEFT JOIN FETCH p.subcategories s LEFT JOIN FETCH s.category WHERE p.id IN :ids",
+        "SELECT p FROM Professional p LEFT JOIN FETCH p.services WHERE p.id IN :ids",
+        "SELECT p FROM Professional p LEFT JOIN FETCH p.serviceAreas WHERE p.id IN :ids",
+        "SELECT p FROM Professional p LEFT JOIN FETCH p.socialLinks WHERE p.id IN :ids"
+    );
+
+    /** Subcategories shown on a card */
+    static final int CARD_SUBCATEGORIES = 3;
+
+    private static final String CARDS_SQL =
+        "SELECT p.id, p.slug, COALESCE(NULLIF(p.display_name, ''), p.first_name || ' ' || p.last_name) AS name,\n" +
+        "       p.headline, p.avatar_url, c.name AS category, p.rating, p.review_count, p.city, p.is_available,\n" +
+        "       ARRAY(SELECT s.name FROM professional_subcategories ps\n" +
+        "             JOIN subcategories s ON s.id = ps.subcategory_id\n" +
+        "             WHERE ps.professional_id = p.id\n" +
+        "             ORDER BY s.name LIMIT " + CARD_SUBCATEGORIES + ") AS subcategories\n" +
+        "FROM professionals p\n" +
+        "LEFT JOIN categories c ON c.id = p.category_id\n" +
+        "WHERE p.id IN (:ids)";
+
+    @Override
+    @Transactional(readOnly = true)
+    public SearchPage searchWithTotal(SearchFilters filters, int pageSize, int offset) {
+        Query q = prepare("inline", filters, ProfessionalSearchRepositoryImpl::inlineTotal);
+        q.setParameter("pageSize", pageSize);
+        q.setParameter("offset", offset);
+        return toPage(q, -1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SearchPage searchWithCappedTotal(SearchFilters filters, int pageSize, int offset, int cap) {
+        Query q = prepare("capped", filters, ProfessionalSearchRepositoryImpl::cappedTotal);
+        q.setParameter("capPlusOne", cap + 1);
+        q.setParameter("pageSize", pageSize);
+        q.setParameter("offset", offset);
+        return toPage(q, cap);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public SearchPage searchAfter(SearchFilters filters, int pageSize, SearchCursor after) {
+        Query q = prepare("keyset", filters, ProfessionalSearchRepositoryImpl::keyset);
+        q.setParameter("afterScore", after.score());
+        q.setParameter("afterRating", after.rating());
+        q.setParameter("afterId", after.id());
+        q.setParameter("pageSizePlusOne", pageSize + 1);
+        List<Object[]> rows = q.getResultList();
+        boolean more = rows.size() > pageSize;
+        if (more) rows = rows.subList(0, pageSize);
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        Map<Long, Double> distances = new HashMap<>();
+        for (Object[] row : rows) {
+            long id = ((Number) row[0]).longValue();
+            ids.add(id);
+            if (row[3] != null) distances.put(id, ((Number) row[3]).doubleValue());
+        }
+        return new SearchPage(ids, -1, false, more ? cursorAfter(rows.get(rows.size() - 1)) : null, distances);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countMatches(SearchFilters filters) {
+        return ((Number) prepare("count", filters, ProfessionalSearchRepositoryImpl::count).getSingleResult()).longValue();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countMatches(SearchFilters filters, int cap) {
+        Query q = prepare("capped-count", filters, ProfessionalSearchRepositoryImpl::cappedCount);
+        q.setParameter("capPlusOne", cap + 1);
+        return ((Number) q.getSingleResult()).longValue();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public List<Object[]> facetMatches(SearchFilters filters, Facet facet) {
+        boolean docs = "docs".equalsIgnoreCase(readModel);
+        ProfessionalSearchSqlBuilder.Template template = switch (facet) {
+            case CATEGORY     -> docs ? ProfessionalSearchRepositoryImpl::docCategoryFacet : ProfessionalSearchRepositoryImpl::categoryFacet;
+            case CITY         -> ProfessionalSearchRepositoryImpl::cityFacet;
+            case SERVICE_AREA -> docs ? ProfessionalSearchRepositoryImpl::docAreaFacet : ProfessionalSearchRepositoryImpl::areaFacet;
+        };
+        return prepare("facet-" + facet.name().toLowerCase(), filters, template).getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Professional> findAllForDisplay(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, Professional> byId = new HashMap<>();
+        for (String jpql : HYDRATE_JPQL) {
+            // Every statement resolves to the same managed instances; each fills in one more association
+            for (Professional p : entityManager.createQuery(jpql, Professional.class)
+                    .setParameter("ids", ids)
+                    .getResultList()) {
+                byId.put(p.getId(), p);
+            }
+        }
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public List<CardRow> findCards(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, CardRow> byId = new HashMap<>();
+        for (Object[] row : (List<Object[]>) entityManager.createNativeQuery(CARDS_SQL)
+                .setParameter("ids", ids)
+                .getResultList()) {
+            CardRow card = toCard(row);
+            byId.put(card.id(), card);
+        }
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    /** Row layout: [id, slug, name, headline, avatar_url, category, rating, review_count, city, is_available, subcategories]. */
+    static CardRow toCard(Object[] row) {
+        return new CardRow(
+            ((Number) row[0]).longValue(),
+            (String) row[1],
+            (String) row[2],
+            (String) row[3],
+            (String) row[4],
+            (String) row[5],
+            (BigDecimal) row[6],
+            row[7] != null ? ((Number) row[7]).intValue() : null,
+            (String) row[8],
+            (Boolean) row[9],
+            stringList(row[10]));
+    }
+
+    /** Hibernate hands back TEXT[] as a Java array; tolerate a raw JDBC array too. */
+    private static List<String> stringList(Object value) {
+        try {
+            Object array = value instanceof java.sql.Array sql ? sql.getArray() : value;
+            if (!(array instanceof Object[] items)) return List.of();
+            List<String> out = new ArrayList<>(items.length);
+            for (Object item : items) if (item != null) out.add(item.toString());
+            return out;
+        } catch (java.sql.SQLException e) {
+            throw new IllegalStateException("Unreadable array column", e);
+        }
+    }
+
+    /**
+     * Row layout: [id, score, rating, total_count, remaining, distance_km].
+     * An empty page carries no total — returned as -1 so the caller can fall back to a COUNT.
+     */
+    @SuppressWarnings("unchecked")
+    private SearchPage toPage(Query q, int cap) {
+        List<Object[]> rows = q.getResultList();
+        List<Long> ids = new ArrayList<>(rows.size());
+        Map<Long, Double> distances = new HashMap<>();
+        for (Object[] row : rows) {
+            long id = ((Number) row[0]).longValue();
+            ids.add(id);
+            if (row[5] != null) distances.put(id, ((Number) row[5]).doubleValue());
+        }
+        if (rows.isEmpty()) return new SearchPage(ids, -1, false, null, Map.of());
+
+        long total = ((Number) rows.get(0)[3]).longValue();
+        SearchCursor next = null;
+        if (((Number) rows.get(0)[4]).longValue() > rows.size()) {
+            next = cursorAfter(rows.get(rows.size() - 1));
+        }
+        if (cap >= 0 && total > cap) {
+            return new SearchPage(ids, cap, true, next, distances);
+        }
+        return new SearchPage(ids, total, false, next, distances);
+    }
+
+    /** Cursor positioned on a phase 1 row — [id, score, rating, …]. */
+    private static SearchCursor cursorAfter(Object[] row) {
+        return new SearchCursor(((Number) row[1]).doubleValue(), ((Number) row[2]).doubleValue(),
+            ((Number) row[0]).longValue());
+    }
+
+    /** Statement for the active filters, parameters bound; sets the trigram threshold first when needed. */
+    private Query prepare(String name, SearchFilters filters, ProfessionalSearchSqlBuilder.Template template) {
+        if (ProfessionalSearchSqlBuilder.usesTrigramOperator(filters)) {
+            entityManager.createNativeQuery(ProfessionalSearchSqlBuilder.TRIGRAM_THRESHOLD_SQL).getSingleResult();
+        }
+        ProfessionalSearchSqlBuilder sql = "docs".equalsIgnoreCase(readModel) ? docsSql : tablesSql;
+        Query q = entityManager.createNativeQuery(sql.statement(name, filters, template));
+        sql.bind(q, filters);
+        return q;
+    }
+}
@@ -0,0 +1,201 @@
+package com.proconnect.repository;
+
+import com.proconnect.search.SearchFilters;
+import com.proconnect.search.SearchSort;
+import jakarta.persistence.Query;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the search statements with only the filters actually supplied, instead of the
+ * {@code (:x IS NULL OR ...)} catch-all form — each filter combination gets SQL, and so a
+ * plan, of its own. Statement text is cached per (statement, filter shape), so a shape's
+ * SQL string is identical on every call and the JDBC driver's prepared-statement cache
+ * applies per shape.
+ *
+ * City and area matching use the pg_trgm {@code %} operator, which the trigram GIN indexes
+ * (idx_professionals_city_trgm, idx_service_areas_name_trgm) can serve. {@code %} compares
+ * against pg_trgm.similarity_threshold — see {@link #TRIGRAM_THRESHOLD_SQL} — and an explicit
+ * similarity() check keeps the strict "&gt; 0.2" semantics of the original query.
+ * One-to-many filters are EXISTS subqueries, so rows are never multiplied then re-grouped.
+ *
+ * With {@link Source#DOCS} the same statements read the denormalised professional_search_docs
+ * table (aliased {@code p}, same column names) instead of joining the normalised tables.
+ *
+ * A geo filter computes the Haversine distance once per candidate, in a LATERAL subquery
+ * ({@code geo.distance_km}), after the geo-cell prefilter. The radius check, the score for
+ * {@link SearchSort#DISTANCE} / {@link SearchSort#BLENDED} and the returned distance all
+ * read that one value.
+ */
+class ProfessionalSearchSqlBuilder {
+
+    /** Where search rows come from — see app.search.read-model */
+    enum Source { TABLES, DOCS }
+
+    /** Transaction-local — must run in the same transaction as the search statement */
+    static final String TRIGRAM_THRESHOLD_SQL =
+        "SELECT set_config('pg_trgm.similarity_threshold', '0.2', true), " +
+        "set_config('pg_trgm.word_similarity_threshold', '0.2', true)";
+
+    private static final int QUERY         = 1;
+    private static final int CITY          = 1 << 1;
+    private static final int STATE         = 1 << 2;
+    private static final int COUNTRY       = 1 << 3;
+    private static final int REMOTE        = 1 << 4;
+    private static final int AVAILABLE     = 1 << 5;
+    private static final int CATEGORY      = 1 << 6;
+    private static final int AREA          = 1 << 7;
+    private static final int SUBCATEGORIES = 1 << 8;
+    private static final int GEO           = 1 << 9;
+    private static final int SORT_DISTANCE = 1 << 10;
+    private static final int SORT_BLENDED  = 1 << 11;
+
+    private static final String RANK_WITH_QUERY =
+        "(COALESCE(ts_rank(p.search_vector, plainto_tsquery('english', :query)), 0.0) + similarity(:query, p.headline) * 0.5)";
+
+    private final Source source;
+    private final Map<String, String> statements = new ConcurrentHashMap<>();
+
+    ProfessionalSearchSqlBuilder(Source source) {
+        this.source = source;
+    }
+
+    /** Bitmask of the filters present in {@code f}. */
+    static int shape(SearchFilters f) {
+        int shape = 0;
+        if (f.query()            != null) shape |= QUERY;
+        if (f.city()             != null) shape |= CITY;
+        if (f.state()            != null) shape |= STATE;
+        if (f.country()          != null) shape |= COUNTRY;
+        if (f.remote()           != null) shape |= REMOTE;
+        if (f.available()        != null) shape |= AVAILABLE;
+        if (f.category()         != null) shape |= CATEGORY;
+        if (f.area()             != null) shape |= AREA;
+        if (f.subcategoryNames() != null) shape |= SUBCATEGORIES;
+        if (f.hasGeoFilter())             shape |= GEO;
+        if (f.sort() == SearchSort.DISTANCE) shape |= SORT_DISTANCE;
+        if (f.sort() == SearchSort.BLENDED)  shape |= SORT_BLENDED;
+        return shape;
+    }
+
+    /** Whether the statement uses {@code %} / {@code <%} and needs {@link #TRIGRAM_THRESHOLD_SQL} first. */
+    static boolean usesTrigramOperator(SearchFilters f) {
+        return f.city() != null || f.area() != null;
+    }
+
+    /** Turns the parts for one filter shape into a full statement. */
+    @FunctionalInterface
+    interface Template {
+        /**
+         * @param match    FROM … WHERE block
+         * @param score    ranking expression, sorted descending
+         * @param distance distance-in-km expression, NULL without a geo filter
+         */
+        String sql(String match, String score, String distance);
+    }
+
+    /** SQL for one statement kind and the filters' shape. */
+    String statement(String name, SearchFilters f, Template template) {
+        int shape = shape(f);
+        return statements.computeIfAbsent(name + ":" + shape,
+            k -> template.sql(match(shape), score(shape), distance(shape)));
+    }
+
+    /** Binds exactly the parameters {@link #statement} emitted for these filters. */
+    void bind(Query q, SearchFilters f) {
+        if (f.query()            != null) q.setParameter("query", f.query());
+        if (f.city()             != null) q.setParameter("city", f.city());
+        if (f.state()            != null) q.setParameter("state", f.state());
+        if (f.country()          != null) q.setParameter("country", f.country());
+        if (f.remote()           != null) q.setParameter("remote", f.remote());
+        if (f.available()        != null) q.setParameter("available", f.available());
+        if (f.category()         != null) q.setParameter("category", f.category());
+        if (f.area()             != null) q.setParameter("area", f.area());
+        if (f.subcategoryNames() != null) q.setParameter("subcategoryNames", f.subcategoryArrayLiteral());
+        if (f.hasGeoFilter()) {
+            q.setParameter("lat", f.lat());
+            q.setParameter("lng", f.lng());
+            q.setParameter("radiusKm", f.radiusKm());
+        }
+    }
+
+    static String rank(int shape) {
+        return (shape & QUERY) != 0 ? RANK_WITH_QUERY : "0.0";
+    }
+
+    /** What results are ordered by — same formulas as {@link SearchSort#score}. */
+    static String score(int shape) {
+        if ((shape & SORT_DISTANCE) != 0) return "-geo.distance_km";
+        if ((shape & SORT_BLENDED) != 0) {
+            return rank(shape) + " + " + SearchSort.PROXIMITY_WEIGHT
+                + " * (1 - geo.distance_km / CAST(:radiusKm AS FLOAT8))";
+        }
+        return rank(shape);
+    }
+
+    static String distance(int shape) {
+        return (shape & GEO) != 0 ? "geo.distance_km" : "NULL";
+    }
+
+    /** FROM … WHERE with one predicate per active filter — same semantics as searchProfessionals. */
+    String match(int shape) {
+        boolean docs = source == Source.DOCS;
+        StringBuilder sql = new StringBuilder(docs
+            ? "FROM professional_search_docs p\n"
+            : "FROM professionals p\nLEFT JOIN categories cat ON cat.id = p.category_id\n");
+        // OFFSET 0 keeps the subquery from being inlined, which would repeat the expression per reference
+        if ((shape & GEO) != 0) sql.append("""
+            CROSS JOIN LATERAL (
+                SELECT 6371 * acos(LEAST(1.0, cos(radians(CAST(:lat AS FLOAT8))) * cos(radians(CAST(p.latitude AS FLOAT8)))
+                       * cos(radians(CAST(p.longitude AS FLOAT8)) - radians(CAST(:lng AS FLOAT8)))
+                       + sin(radians(CAST(:lat AS FLOAT8))) * sin(radians(CAST(p.latitude AS FLOAT8))))) AS distance_km
+                OFFSET 0
+            ) geo
+            """);
+        sql.append("WHERE TRUE\n");
+        if ((shape & QUERY) != 0) sql.append("""
+              AND (
+                  p.search_vector @@ plainto_tsquery('english', :query)
+                  OR p.search_vector @@ to_tsquery('english', regexp_replace(trim(:query), '\\s+', ':* & ', 'g') || ':*')
+                  OR similarity(:query, p.headline)            > 0.25
+                  OR similarity(:query, coalesce(%s,'')) > 0.25
+                  OR similarity(:query, coalesce(p.bio,''))    > 0.2
+                  OR EXISTS (%s)
+              )
+            """.formatted(docs ? "p.category_name" : "cat.name", docs
+                ? "SELECT 1 FROM unnest(p.subcategory_names) sn WHERE similarity(:query, sn) > 0.25"
+                : "SELECT 1 FROM professional_subcategories ps JOIN subcategories sc ON sc.id = ps.subcategory_id\n" +
+                  "                 WHERE ps.professional_id = p.id AND similarity(:query, sc.name) > 0.25"));
+        if ((shape & CITY)      != 0) sql.append("  AND p.city % :city AND similarity(p.city, :city) > 0.2\n");
+        if ((shape & STATE)     != 0) sql.append("  AND LOWER(p.state) = LOWER(:state)\n");
+        if ((shape & COUNTRY)   != 0) sql.append("  AND LOWER(p.country) = LOWER(:country)\n");
+        if ((shape & REMOTE)    != 0) sql.append("  AND p.remote = :remote\n");
+        if ((shape & AVAILABLE) != 0) sql.append("  AND p.is_available = :available\n");
+        if ((shape & CATEGORY)  != 0) sql.append(docs
+            ? "  AND LOWER(p.category_name) = LOWER(:category)\n"
+            : "  AND LOWER(cat.name) = LOWER(:category)\n");
+        if ((shape & AREA) != 0) sql.append(docs ? """
+              AND :area <% p.service_areas_text
+              AND EXISTS (SELECT 1 FROM unnest(p.service_area_names) a WHERE similarity(a, :area) > 0.2)
+            """ : """
+              AND EXISTS (SELECT 1 FROM professional_service_areas psa
+                          WHERE psa.professional_id = p.id
+                            AND psa.area_name % :area AND similarity(psa.area_name, :area) > 0.2)
+            """);
+        if ((shape & SUBCATEGORIES) != 0) sql.append(docs ? """
+              AND p.subcategory_names && CAST(:subcategoryNames AS TEXT[])
+            """ : """
+              AND EXISTS (SELECT 1 FROM professional_subcategories ps
+                          JOIN subcategories sc ON sc.id = ps.subcategory_id
+                          WHERE ps.professional_id = p.id
+                            AND LOWER(sc.name) = ANY(CAST(:subcategoryNames AS TEXT[])))
+            """);
+        if ((shape & GEO) != 0) sql.append("""
+              AND p.latitude IS NOT NULL AND p.longitude IS NOT NULL
+              AND p.geo_cell IN (SELECT geo_cells_within(CAST(:lat AS FLOAT8), CAST(:lng AS FLOAT8), CAST(:radiusKm AS FLOAT8)))
+              AND geo.distance_km < CAST(:radiusKm AS FLOAT8)
+            """);
+        return sql.toString();
+    }
+}
@@ -0,0 +1,145 @@
+package com.proconnect.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fixed-size lat/lng grid of professional positions, partitioned by category and availability,
+ * answering "who is within N km" without touching every professional.
+ *
+ * A radius query visits only the cells overlapping the circle's bounding box in the matching
+ * partitions, then applies the exact Haversine distance from {@link GeoMath} — the same
+ * answer as the native queries in ProfessionalRepository.
+ *
+ * Not thread-safe — {@link ProfessionalSearchIndex} guards it with its own lock.
+ */
+public final class GeoGrid {
+
+    /** ≈5.5 km north–south; wide enough that a typical search radius spans a handful of cells */
+    static final double CELL_DEGREES = 0.05;
+
+    private static final int LNG_CELLS = (int) Math.ceil(360 / CELL_DEGREES);
+
+    /** A professional within range of the query point */
+    public record Neighbour(long id, double distanceKm) {}
+
+    private record Partition(String category, boolean available) {}
+
+    private record Point(double lat, double lng, Partition partition, long cell) {}
+
+    private final Map<Partition, Map<Long, Set<Long>>> cells = new HashMap<>();
+    private final Map<Long, Point> points = new HashMap<>();
+
+    public int size() {
+        return points.size();
+    }
+
+    /** Adds or moves a professional. */
+    public void put(long id, double lat, double lng, String category, boolean available) {
+        remove(id);
+        Point point = new Point(lat, lng, new Partition(categoryKey(category), available), cellOf(lat, lng));
+        points.put(id, point);
+        cells.computeIfAbsent(point.partition(), k -> new HashMap<>())
+             .computeIfAbsent(point.cell(), k -> new HashSet<>())
+             .add(id);
+    }
+
+    public void remove(long id) {
+        Point point = points.remove(id);
+        if (point == null) return;
+        Map<Long, Set<Long>> partition = cells.get(point.partition());
+        Set<Long> ids = partition.get(point.cell());
+        ids.remove(id);
+        if (ids.isEmpty()) partition.remove(point.cell());
+        if (partition.isEmpty()) cells.remove(point.partition());
+    }
+
+    /**
+     * Professionals strictly closer than {@code radiusKm}, nearest first.
+     *
+     * @param category  case-insensitive category name, or null for any
+     * @param available required availability, or null for either
+     */
+    public List<Neighbour> within(double lat, double lng, double radiusKm, String category, Boolean available) {
+        List<Neighbour> out = new ArrayList<>();
+        if (radiusKm <= 0) return out;
+        String categoryKey = category != null ? categoryKey(category) : null;
+
+        // Exact bounding box of the spherical cap — same bounds as geo_cells_within() in schema.sql
+        double angular = radiusKm / GeoMath.EARTH_RADIUS_KM;
+        double dLat    = Math.toDegrees(angular);
+        double sinLng  = Math.sin(angular) / Math.cos(Math.toRadians(lat));
+        // Near the poles (or for huge radii) the box spans every longitude
+        double dLng    = angular < Math.PI / 2 && sinLng < 1 ? Math.toDegrees(Math.asin(sinLng)) : 180;
+        int latFrom = latIndex(Math.max(-90, lat - dLat));
+        int latTo   = latIndex(Math.min(90,  lat + dLat));
+        int lngLo   = (int) Math.floor((lng - dLng + 180) / CELL_DEGREES);
+        int lngHi   = (int) Math.floor((lng + dLng + 180) / CELL_DEGREES);
+        int lngFrom = Math.floorMod(lngLo, LNG_CELLS);
+        int lngSpan = dLng >= 180 ? LNG_CELLS : Math.min(LNG_CELLS, lngHi - lngLo + 1);
+
+        for (Map.Entry<Partition, Map<Long, Set<Long>>> e : cells.entrySet()) {
+            Partition p = e.getKey();
+            if (categoryKey != null && !categoryKey.equals(p.category())) continue;
+            if (available != null && available != p.available()) continue;
+            Map<Long, Set<Long>> partition = e.getValue();
+
+            // Walk whichever is smaller: the box's cells or the partition's occupied cells
+            long boxCells = (long) (latTo - latFrom + 1) * lngSpan;
+            if (boxCells <= partition.size()) {
+                for (int la = latFrom; la <= latTo; la++) {
+                    for (int i = 0; i < lngSpan; i++) {
+                        Set<Long> ids = partition.get(cellKey(la, Math.floorMod(lngFrom + i, LNG_CELLS)));
+                        if (ids != null) collect(ids, lat, lng, radiusKm, out);
+                    }
+                }
+            } else {
+                for (Map.Entry<Long, Set<Long>> cell : partition.entrySet()) {
+                    int la = (int) (cell.getKey() / LNG_CELLS);
+                    int lo = (int) (cell.getKey() % LNG_CELLS);
+                    if (la < latFrom || la > latTo) continue;
+                    if (Math.floorMod(lo - lngFrom, LNG_CELLS) >= lngSpan) continue;
+                    collect(cell.getValue(), lat, lng, radiusKm, out);
+                }
+            }
+        }
+        out.sort(Comparator.comparingDouble(Neighbour::distanceKm).thenComparingLong(Neighbour::id));
+        return out;
+    }
+
+    private void collect(Set<Long> ids, double lat, double lng, double radiusKm, List<Neighbour> out) {
+        for (Long id : ids) {
+            Point point = points.get(id);
+            double km = GeoMath.distanceKm(lat, lng, point.lat(), point.lng());
+            if (km < radiusKm) out.add(new Neighbour(id, km));
+        }
+    }
+
+    // ── cells ─────────────────────────────────────────────────────────────────
+
+    private static long cellOf(double lat, double lng) {
+        return cellKey(latIndex(lat), lngIndex(lng));
+    }
+
+    private static long cellKey(int latIndex, int lngIndex) {
+        return (long) latIndex * LNG_CELLS + lngIndex;
+    }
+
+    private static int latIndex(double lat) {
+        return (int) Math.floor((lat + 90) / CELL_DEGREES);
+    }
+
+    /** Wraps around the antimeridian */
+    private static int lngIndex(double lng) {
+        return Math.floorMod((int) Math.floor((lng + 180) / CELL_DEGREES), LNG_CELLS);
+    }
+
+    private static String categoryKey(String category) {
+        return category == null ? "" : category.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,19 @@
+package com.proconnect.search;
+
+/**
+ * Haversine distance — same formula (and earth radius) as the native queries
+ * in ProfessionalRepository, so Java and SQL agree on who is "within N km".
+ */
+public final class GeoMath {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    private GeoMath() {}
+
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double cos = Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                   * Math.cos(Math.toRadians(lng2) - Math.toRadians(lng1))
+                   + Math.sin(Math.toRadians(lat1)) * Math.sin(Math.toRadians(lat2));
+        return EARTH_RADIUS_KM * Math.acos(Math.min(1.0, cos));
+    }
+}
@@ -0,0 +1,131 @@
+package com.proconnect.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Every known service-area and city name, held in memory for resolving
+ * location hints in free-text queries ("plumber indiranagar", "electrician in bengaluru").
+ *
+ * Exact (normalised) names resolve with one map lookup; anything else goes through a
+ * trigram posting list so only names sharing a trigram with the hint are scored.
+ * Fuzzy threshold matches the old findMatchingAreaName query (similarity > 0.25).
+ * Kept current from search-document changes, with per-name reference counts.
+ */
+@Component
+public class LocationGazetteer implements SearchDocumentListener {
+
+    static final double MIN_SIMILARITY = 0.25;
+
+    public enum Kind { AREA, CITY }
+
+    public record Match(String name, Kind kind, double similarity) {}
+
+    /** A trailing location hint split off a query — keyword is null when nothing is left */
+    public record Split(String keyword, Match location) {}
+
+    private record Place(String name, Kind kind, Set<String> trigrams) {}
+
+    /** "kind|normalised name" → place, and its reference count */
+    private final Map<String, Place>   places    = new ConcurrentHashMap<>();
+    private final Map<String, Integer> refCounts = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> keysByTrigram = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized void onDocumentChanged(SearchDocument previous, SearchDocument current) {
+        if (previous != null) {
+            release(Kind.CITY, previous.city());
+            new HashSet<>(previous.serviceAreas()).forEach(a -> release(Kind.AREA, a));
+        }
+        if (current != null) {
+            retain(Kind.CITY, current.city());
+            new HashSet<>(current.serviceAreas()).forEach(a -> retain(Kind.AREA, a));
+        }
+    }
+
+    /** Best area or city for a hint; areas win ties since they are the narrower filter. */
+    public Optional<Match> resolve(String hint) {
+        String normalized = TextAnalyzer.normalize(hint);
+        if (normalized.isEmpty()) return Optional.empty();
+
+        for (Kind kind : List.of(Kind.AREA, Kind.CITY)) {
+            Place exact = places.get(key(kind, normalized));
+            if (exact != null) return Optional.of(new Match(exact.name(), kind, 1.0));
+        }
+
+        Set<String> hintTrigrams = Trigrams.of(normalized);
+        Set<String> candidates = new HashSet<>();
+        for (String tri : hintTrigrams) {
+            Set<String> keys = keysByTrigram.get(tri);
+            if (keys != null) candidates.addAll(keys);
+        }
+        Match best = null;
+        for (String key : candidates) {
+            Place place = places.get(key);
+            if (place == null) continue;
+            double sim = Trigrams.similarity(hintTrigrams, place.trigrams());
+            if (sim <= MIN_SIMILARITY) continue;
+            if (best == null || sim > best.similarity()
+                    || (sim == best.similarity() && place.kind() == Kind.AREA && best.kind() == Kind.CITY)) {
+                best = new Match(place.name(), place.kind(), sim);
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * "java indiranagar" → ("java", Indiranagar). Tries trailing word runs shortest-first,
+     * as the old per-suffix DB lookups did, and never consumes the first word.
+     */
+    public Optional<Split> splitTrailing(String query) {
+        String[] words = query.trim().split("\\s+");
+        for (int i = words.length - 1; i >= 1; i--) {
+            String hint = String.join(" ", Arrays.copyOfRange(words, i, words.length));
+            Optional<Match> match = resolve(hint);
+            if (match.isPresent()) {
+                String keyword = String.join(" ", Arrays.copyOfRange(words, 0, i));
+                return Optional.of(new Split(keyword.isBlank() ? null : keyword, match.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void retain(Kind kind, String name) {
+        if (name == null || name.isBlank()) return;
+        String normalized = TextAnalyzer.normalize(name);
+        String key = key(kind, normalized);
+        if (refCounts.merge(key, 1, Integer::sum) == 1) {
+            Set<String> trigrams = Trigrams.of(normalized);
+            places.put(key, new Place(name.trim(), kind, trigrams));
+            for (String tri : trigrams) keysByTrigram.computeIfAbsent(tri, t -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    private void release(Kind kind, String name) {
+        if (name == null || name.isBlank()) return;
+        String key = key(kind, TextAnalyzer.normalize(name));
+        Integer left = refCounts.computeIfPresent(key, (k, n) -> n > 1 ? n - 1 : null);
+        if (left == null) {
+            Place place = places.remove(key);
+            if (place == null) return;
+            for (String tri : place.trigrams()) {
+                Set<String> keys = keysByTrigram.get(tri);
+                if (keys != null) {
+                    keys.remove(key);
+                    if (keys.isEmpty()) keysByTrigram.remove(tri);
+                }
+            }
+        }
+    }
+
+    private static String key(Kind kind, String normalized) {
+        return kind.name() + "|" + normalized;
+    }
+}
@@ -0,0 +1,490 @@
+package com.proconnect.search;
+
+import com.proconnect.service.ProfessionalChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-JVM inverted index over every professional's searchable text
+ * (name, headline, bio, category, subcategories, service titles, service areas, location).
+ *
+ * Also the document store for everything else that needs a live view of the
+ * professionals table — see {@link SearchDocumentListener}.
+ *
+ * Lifecycle:
+ *  1. Built in the background once the app is ready (the DB search path serves until then)
+ *  2. Kept current by {@link ProfessionalChangedEvent}s, applied after commit
+ */
+@Slf4j
+@Component
+public class ProfessionalSearchIndex {
+
+    /** Same relative weights ts_rank uses for setweight A / B / C */
+    private static final float WEIGHT_A = 1.0f;
+    private static final float WEIGHT_B = 0.4f;
+    private static final float WEIGHT_C = 0.2f;
+
+    /** Score multipliers by how a query term matched an indexed term */
+    private static final double EXACT_MATCH  = 1.0;
+    private static final double PREFIX_MATCH = 0.8;
+    private static final double FUZZY_MATCH  = 0.5;
+
+    private static final int    FUZZY_MIN_LENGTH     = 4;
+    private static final double FUZZY_MIN_SIMILARITY = 0.5;
+    private static final double CITY_SIMILARITY      = 0.2;
+    private static final double AREA_SIMILARITY      = 0.2;
+
+    private final SearchDocumentLoader loader;
+    private final ObjectProvider<SearchDocumentListener> listeners;
+
+    @Value("${app.search.index.enabled:true}")
+    private boolean enabled;
+
+    private final Map<Long, SearchDocument> documents = new ConcurrentHashMap<>();
+
+    // ── guarded by lock ──
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<Long, Map<String, Float>> docTerms = new HashMap<>();
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+    private final GeoGrid geoGrid = new GeoGrid();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Listener notifications, queued under the write lock so they keep mutation order, and
+     * delivered one at a time outside it (listeners may query the index).
+     */
+    private final Queue<Runnable> notifications = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock deliveryLock = new ReentrantLock();
+
+    /** pg_trgm sets for city / area names — small, bounded by distinct place names */
+    private final Map<String, Set<String>> placeTrigrams = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+    private volatile boolean building;
+    private final Set<Long> changedDuringBuild = ConcurrentHashMap.newKeySet();
+
+    public ProfessionalSearchIndex(SearchDocumentLoader loader,
+                                   ObjectProvider<SearchDocumentListener> listeners) {
+        this.loader = loader;
+        this.listeners = listeners;
+    }
+
+    /**
+     * A ranked match. Rating is kept for tie-breaking, mirroring the SQL ORDER BY.
+     *
+     * @param distanceKm distance from the searcher, or null without a geo filter
+     */
+    public record Hit(long id, double score, double rating, Double distanceKm) {
+
+        public Hit(long id, double score, double rating) {
+            this(id, score, rating, null);
+        }
+    }
+
+    public record Result(List<Hit> hits, long total) {}
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public SearchDocument get(Long professionalId) {
+        return documents.get(professionalId);
+    }
+
+    public Collection<SearchDocument> documents() {
+        return documents.values();
+    }
+
+    // ── Lifecycle ─────────────────────────────────────────────────────────────
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled) {
+            log.info("In-memory search index disabled (app.search.index.enabled=false)");
+            return;
+        }
+        Thread builder = new Thread(this::rebuild, "search-index-build");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /** Full reload from the DB. Changes that land mid-build are replayed afterwards. */
+    public void rebuild() {
+        building = true;
+        long start = System.currentTimeMillis();
+        try {
+            int count = loader.loadAll(doc -> apply(doc.id(), doc));
+            building = false;
+            for (Long id : Set.copyOf(changedDuringBuild)) {
+                changedDuringBuild.remove(id);
+                refresh(id);
+            }
+            ready = true;
+            log.info("Search index built: {} professionals, {} terms in {} ms",
+                count, postings.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            building = false;
+            log.error("Search index build failed — DB search path stays active", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfessionalChanged(ProfessionalChangedEvent event) {
+        if (!enabled) return;
+        if (building) changedDuringBuild.add(event.professionalId());
+        try {
+            if (event.deleted()) {
+                apply(event.professionalId(), null);
+            } else {
+                refresh(event.professionalId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Search index refresh failed for professional {}", event.professionalId(), e);
+        }
+    }
+
+    private void refresh(Long professionalId) {
+        apply(professionalId, loader.load(professionalId).orElse(null));
+    }
+
+    /** Replace (or remove, when doc is null) one professional and notify listeners. */
+    void apply(Long id, SearchDocument doc) {
+        SearchDocument previous;
+        lock.writeLock().lock();
+        try {
+            previous = doc == null ? documents.remove(id) : documents.put(id, doc);
+            unindex(id);
+            if (doc != null) index(doc);
+            if (previous != null || doc != null) {
+                notifications.add(() -> notifyListeners(id, previous, doc));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        deliverNotifications();
+    }
+
+    /**
+     * Moves one professional on the geo grid without reloading it — for live location pings,
+     * which are written to the DB later in batches. A no-op when the position hasn't changed.
+     * Listeners get {@link SearchDocumentListener#onDocumentMoved}, not a full change.
+     */
+    public void relocate(Long id, double lat, double lng) {
+        SearchDocument previous;
+        SearchDocument moved;
+        lock.writeLock().lock();
+        try {
+            previous = documents.get(id);
+            if (previous == null || (previous.hasLocation()
+                    && previous.latitude() == lat && previous.longitude() == lng)) {
+                return;
+            }
+            moved = previous.withLocation(lat, lng);
+            documents.put(id, moved);
+            geoGrid.put(id, lat, lng, moved.categoryName(), moved.available());
+            notifications.add(() -> notifyMoved(id, previous, moved));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        deliverNotifications();
+    }
+
+    /**
+     * Drains the notification queue on whichever thread gets the delivery lock first. A thread
+     * that loses the race leaves its notification to the holder, which re-checks the queue after
+     * unlocking — so every listener sees one professional's changes in the order they were made,
+     * and its reference counts stay balanced.
+     */
+    private void deliverNotifications() {
+        while (!notifications.isEmpty() && deliveryLock.tryLock()) {
+            try {
+                Runnable next;
+                while ((next = notifications.poll()) != null) next.run();
+            } finally {
+                deliveryLock.unlock();
+            }
+        }
+    }
+
+    private void notifyListeners(Long id, SearchDocument previous, SearchDocument doc) {
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onDocumentChanged(previous, doc);
+            } catch (RuntimeException e) {
+                log.warn("{} failed handling change for professional {}", listener.getClass().getSimpleName(), id, e);
+            }
+        });
+    }
+
+    private void notifyMoved(Long id, SearchDocument previous, SearchDocument moved) {
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onDocumentMoved(previous, moved);
+            } catch (RuntimeException e) {
+                log.warn("{} failed handling move of professional {}", listener.getClass().getSimpleName(), id, e);
+            }
+        });
+    }
+
+    // ── Query ─────────────────────────────────────────────────────────────────
+
+    /** Ranks {@code matches} with a bounded heap and returns one page of them. */
+    public static Result page(List<Hit> matches, int offset, int limit) {
+        int keep = offset + limit;
+        PriorityQueue<Hit> top = new PriorityQueue<>(Math.max(1, Math.min(keep, matches.size())), RANKING.reversed());
+        for (Hit hit : matches) {
+            top.offer(hit);
+            if (top.size() > keep) top.poll();
+        }
+        List<Hit> page = new ArrayList<>(top);
+        page.sort(RANKING);
+        List<Hit> slice = offset >= page.size() ? List.of() : page.subList(offset, page.size());
+        return new Result(List.copyOf(slice), matches.size());
+    }
+
+    /**
+     * Professionals within {@code radiusKm} of a point, nearest first, from the geo grid —
+     * only the grid cells around the point are examined.
+     *
+     * @param category  case-insensitive primary category, or null for any
+     * @param available required availability, or null for either
+     */
+    public List<GeoGrid.Neighbour> nearby(double lat, double lng, double radiusKm, String category, Boolean available) {
+        lock.readLock().lock();
+        try {
+            return geoGrid.within(lat, lng, radiusKm, category, available);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Every match for the filters, unordered. With a geo filter each candidate's distance is
+     * computed once — it filters, feeds the score for distance / blended sorts and rides on the hit.
+     */
+    public List<Hit> match(SearchFilters filters) {
+        Set<String> cityTrigrams = filters.city() != null ? Trigrams.of(filters.city()) : null;
+        Set<String> areaTrigrams = filters.area() != null ? Trigrams.of(filters.area()) : null;
+        Set<String> subcats = filters.subcategoryNames() != null ? Set.copyOf(filters.subcategoryNames()) : null;
+
+        List<Hit> out = new ArrayList<>();
+        if (filters.query() == null) {
+            for (Candidate c : candidates(filters)) {
+                if (matchesFilters(c.doc(), filters, cityTrigrams, areaTrigrams, subcats)) {
+                    out.add(hit(c.doc(), 0.0, c.distanceKm(), filters));
+                }
+            }
+            return out;
+        }
+
+        Map<Long, Double> textScores = scoreText(filters.query());
+        Set<String> queryTrigrams = Trigrams.of(filters.query());
+        for (Map.Entry<Long, Double> e : textScores.entrySet()) {
+            SearchDocument doc = documents.get(e.getKey());
+            if (doc == null) continue;
+            Double distanceKm = null;
+            if (filters.hasGeoFilter()) {
+                distanceKm = distanceWithin(doc, filters);
+                if (distanceKm == null) continue;
+            }
+            if (!matchesFilters(doc, filters, cityTrigrams, areaTrigrams, subcats)) continue;
+            double score = e.getValue() + Trigrams.similarity(queryTrigrams, Trigrams.of(doc.headline())) * 0.5;
+            out.add(hit(doc, score, distanceKm, filters));
+        }
+        return out;
+    }
+
+    private static Hit hit(SearchDocument doc, double relevance, Double distanceKm, SearchFilters f) {
+        return new Hit(doc.id(), f.sort().score(relevance, distanceKm, f.radiusKm()), doc.rating(), distanceKm);
+    }
+
+    private record Candidate(SearchDocument doc, Double distanceKm) {}
+
+    /** Documents worth checking against the filters — just the ones in range, with their distance, for a geo search. */
+    private List<Candidate> candidates(SearchFilters filters) {
+        List<Candidate> out = new ArrayList<>();
+        if (!filters.hasGeoFilter()) {
+            for (SearchDocument doc : documents.values()) out.add(new Candidate(doc, null));
+            return out;
+        }
+        for (GeoGrid.Neighbour n : nearby(filters.lat(), filters.lng(), filters.radiusKm(), filters.category(), filters.available())) {
+            SearchDocument doc = documents.get(n.id());
+            if (doc != null) out.add(new Candidate(doc, n.distanceKm()));
+        }
+        return out;
+    }
+
+    private static final Comparator<Hit> RANKING = Comparator
+        .comparingDouble(Hit::score).reversed()
+        .thenComparing(Comparator.comparingDouble(Hit::rating).reversed())
+        .thenComparingLong(Hit::id);
+
+    /**
+     * AND across query terms; each term may match exactly, as a prefix or fuzzily.
+     * Score = mean over terms of the best (field weight × match quality).
+     */
+    private Map<Long, Double> scoreText(String query) {
+        List<String> terms = TextAnalyzer.tokens(query);
+        if (terms.isEmpty()) return Map.of();
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String term : terms) {
+                Map<Long, Double> termScores = new HashMap<>();
+                collect(termScores, postings.get(term), EXACT_MATCH);
+                for (Map.Entry<String, Map<Long, Float>> e
+                        : postings.subMap(term, false, term + Character.MAX_VALUE, false).entrySet()) {
+                    collect(termScores, e.getValue(), PREFIX_MATCH);
+                }
+                if (term.length() >= FUZZY_MIN_LENGTH) {
+                    for (String similar : fuzzyTerms(term)) {
+                        collect(termScores, postings.get(similar), FUZZY_MATCH);
+                    }
+                }
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    Map<Long, Double> both = new HashMap<>();
+                    for (Map.Entry<Long, Double> e : scores.entrySet()) {
+                        Double s = termScores.get(e.getKey());
+                        if (s != null) both.put(e.getKey(), e.getValue() + s);
+                    }
+                    scores = both;
+                }
+                if (scores.isEmpty()) return Map.of();
+            }
+            int n = terms.size();
+            scores.replaceAll((id, s) -> s / n);
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void collect(Map<Long, Double> into, Map<Long, Float> posting, double quality) {
+        if (posting == null) return;
+        posting.forEach((id, weight) -> into.merge(id, weight * quality, Math::max));
+    }
+
+    private Set<String> fuzzyTerms(String term) {
+        Set<String> termTrigrams = Trigrams.of(term);
+        Set<String> candidates = new HashSet<>();
+        for (String tri : termTrigrams) {
+            Set<String> terms = termsByTrigram.get(tri);
+            if (terms != null) candidates.addAll(terms);
+        }
+        candidates.removeIf(c -> c.equals(term)
+            || Trigrams.similarity(termTrigrams, Trigrams.of(c)) < FUZZY_MIN_SIMILARITY);
+        return candidates;
+    }
+
+    /** Whether a document passes every non-text filter — the query itself is not evaluated. */
+    public boolean matchesFilters(SearchDocument doc, SearchFilters f) {
+        if (f.hasGeoFilter() && distanceWithin(doc, f) == null) return false;
+        return matchesFilters(doc, f,
+            f.city() != null ? Trigrams.of(f.city()) : null,
+            f.area() != null ? Trigrams.of(f.area()) : null,
+            f.subcategoryNames() != null ? Set.copyOf(f.subcategoryNames()) : null);
+    }
+
+    /** Distance from the searcher when strictly inside the radius, else null. */
+    private static Double distanceWithin(SearchDocument doc, SearchFilters f) {
+        if (!doc.hasLocation()) return null;
+        double km = GeoMath.distanceKm(f.lat(), f.lng(), doc.latitude(), doc.longitude());
+        return km < f.radiusKm() ? km : null;
+    }
+
+    /** Every filter but the radius — callers establish the distance first, once. */
+    private boolean matchesFilters(SearchDocument doc, SearchFilters f,
+                                   Set<String> cityTrigrams, Set<String> areaTrigrams, Set<String> subcats) {
+        if (cityTrigrams != null
+                && Trigrams.similarity(cityTrigrams, placeTrigrams(doc.city())) <= CITY_SIMILARITY) return false;
+        if (f.state()   != null && !f.state().equalsIgnoreCase(doc.state()))     return false;
+        if (f.country() != null && !f.country().equalsIgnoreCase(doc.country())) return false;
+        if (f.remote()    != null && f.remote()    != doc.remote())    return false;
+        if (f.available() != null && f.available() != doc.available()) return false;
+        if (f.category()  != null && !f.category().equalsIgnoreCase(doc.categoryName())) return false;
+        if (areaTrigrams != null && doc.serviceAreas().stream()
+                .noneMatch(a -> Trigrams.similarity(areaTrigrams, placeTrigrams(a)) > AREA_SIMILARITY)) return false;
+        if (subcats != null && doc.subcategoryNames().stream()
+                .noneMatch(s -> subcats.contains(s.toLowerCase()))) return false;
+        return true;
+    }
+
+    private Set<String> placeTrigrams(String name) {
+        return name == null ? Set.of() : placeTrigrams.computeIfAbsent(name, Trigrams::of);
+    }
+
+    // ── Index maintenance (caller holds the write lock) ───────────────────────
+
+    private void index(SearchDocument doc) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, WEIGHT_A, List.of(nz(doc.displayName()), nz(doc.headline())));
+        addTerms(terms, WEIGHT_B, List.of(nz(doc.categoryName()), nz(doc.city()), nz(doc.state()), nz(doc.country())));
+        addTerms(terms, WEIGHT_B, doc.subcategoryNames());
+        addTerms(terms, WEIGHT_B, doc.serviceTitles());
+        addTerms(terms, WEIGHT_B, doc.serviceAreas());
+        for (String t : doc.bioTerms()) terms.merge(t, WEIGHT_C, Math::max);
+
+        docTerms.put(doc.id(), terms);
+        if (doc.hasLocation()) {
+            geoGrid.put(doc.id(), doc.latitude(), doc.longitude(), doc.categoryName(), doc.available());
+        }
+        terms.forEach((term, weight) -> {
+            Map<Long, Float> posting = postings.computeIfAbsent(term, k -> {
+                for (String tri : Trigrams.of(k)) termsByTrigram.computeIfAbsent(tri, x -> new HashSet<>()).add(k);
+                return new HashMap<>();
+            });
+            posting.put(doc.id(), weight);
+        });
+    }
+
+    private void unindex(Long id) {
+        geoGrid.remove(id);
+        Map<String, Float> terms = docTerms.remove(id);
+        if (terms == null) return;
+        for (String term : terms.keySet()) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting == null) continue;
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+                for (String tri : Trigrams.of(term)) {
+                    Set<String> set = termsByTrigram.get(tri);
+                    if (set != null && set.remove(term) && set.isEmpty()) termsByTrigram.remove(tri);
+                }
+            }
+        }
+    }
+
+    private static void addTerms(Map<String, Float> into, float weight, List<String> values) {
+        for (String t : TextAnalyzer.terms(values)) into.merge(t, weight, Math::max);
+    }
+
+    private static String nz(String s) {
+        return s == null ? "" : s;
+    }
+}
@@ -0,0 +1,19 @@
+package com.proconnect.search;
+
+/**
+ * How the DB search path produces the result total.
+ *
+ *   SEPARATE — page query + a second COUNT query (the original behaviour)
+ *   INLINE   — page rows and exact total from one statement (COUNT(*) OVER ())
+ *   CAPPED   — one statement; counting stops at app.search.count-cap, total reported as "cap+"
+ */
+public enum SearchCountMode {
+    SEPARATE,
+    INLINE,
+    CAPPED;
+
+    public static SearchCountMode from(String value) {
+        if (value == null || value.isBlank()) return INLINE;
+        return valueOf(value.trim().toUpperCase());
+    }
+}
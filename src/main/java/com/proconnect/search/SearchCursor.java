@@ -0,0 +1,47 @@
+package com.proconnect.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Keyset position in a ranked result list: the (score, rating, id) of the last row served.
+ * Ordering is score DESC, rating DESC, id ASC — the next page starts strictly after this row.
+ * Travels to clients as an opaque URL-safe token.
+ *
+ * @param rating professionals without a rating are encoded as {@link #NO_RATING} (sorted last)
+ */
+public record SearchCursor(double score, double rating, long id) {
+
+    /** Rating of an unrated professional — the SQL ranking and the index both use it, so cursors carry over */
+    public static final double NO_RATING = -1;
+
+    public String encode() {
+        String raw = score + ":" + rating + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Empty for null/blank or malformed tokens. */
+    public static Optional<SearchCursor> decode(String token) {
+        if (token == null || token.isBlank()) return Optional.empty();
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3) return Optional.empty();
+            return Optional.of(new SearchCursor(
+                Double.parseDouble(parts[0]), Double.parseDouble(parts[1]), Long.parseLong(parts[2])));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static SearchCursor after(ProfessionalSearchIndex.Hit hit) {
+        return new SearchCursor(hit.score(), hit.rating(), hit.id());
+    }
+
+    /** True when {@code hit} ranks strictly after this position. */
+    public boolean precedes(ProfessionalSearchIndex.Hit hit) {
+        if (hit.score() != score) return hit.score() < score;
+        if (hit.rating() != rating) return hit.rating() < rating;
+        return hit.id() > id;
+    }
+}
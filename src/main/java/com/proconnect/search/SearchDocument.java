@@ -0,0 +1,40 @@
+package com.proconnect.search;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable, search-relevant snapshot of one professional.
+ * Built by {@link SearchDocumentLoader}; held in memory by {@link ProfessionalSearchIndex}.
+ * The bio itself is not kept — only its analyzed terms.
+ * An unrated professional has rating {@link SearchCursor#NO_RATING}, as in the SQL ranking.
+ */
+public record SearchDocument(
+    Long id,
+    String displayName,
+    String headline,
+    String categoryName,
+    List<String> subcategoryNames,
+    List<String> serviceTitles,
+    List<String> serviceAreas,
+    String city,
+    String state,
+    String country,
+    boolean remote,
+    boolean available,
+    Double latitude,
+    Double longitude,
+    double rating,
+    int reviewCount,
+    Set<String> bioTerms
+) {
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+
+    public SearchDocument withLocation(double lat, double lng) {
+        return new SearchDocument(id, displayName, headline, categoryName, subcategoryNames, serviceTitles,
+            serviceAreas, city, state, country, remote, available, lat, lng, rating, reviewCount, bioTerms);
+    }
+}
@@ -0,0 +1,24 @@
+package com.proconnect.search;
+
+/**
+ * Callback for in-memory structures that derive from the search documents
+ * (facets, gazetteer, caches, ...). Beans implementing this are picked up by
+ * {@link ProfessionalSearchIndex} and notified after every document change,
+ * including the initial bulk load.
+ */
+public interface SearchDocumentListener {
+
+    /**
+     * @param previous the document before the change — null on insert / initial load
+     * @param current  the document after the change  — null on delete
+     */
+    void onDocumentChanged(SearchDocument previous, SearchDocument current);
+
+    /**
+     * A location-only move (live location ping) — everything but the coordinates is unchanged.
+     * Fired instead of {@link #onDocumentChanged}; only structures that depend on coordinates
+     * need to react, so the default ignores it.
+     */
+    default void onDocumentMoved(SearchDocument previous, SearchDocument current) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.proconnect.search;
+
+import com.proconnect.entity.Professional;
+import com.proconnect.entity.ServiceArea;
+import com.proconnect.entity.ServiceOffering;
+import com.proconnect.entity.Subcategory;
+import com.proconnect.repository.ProfessionalRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Reads professionals from the DB and turns them into {@link SearchDocument}s.
+ * Runs in its own read-only transaction so it can be called from after-commit
+ * listeners and background threads alike.
+ */
+@Component
+public class SearchDocumentLoader {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ProfessionalRepository professionalRepository;
+    private final TransactionTemplate readTx;
+
+    public SearchDocumentLoader(ProfessionalRepository professionalRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.professionalRepository = professionalRepository;
+        this.readTx = new TransactionTemplate(transactionManager);
+        this.readTx.setReadOnly(true);
+        this.readTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public Optional<SearchDocument> load(Long professionalId) {
+        return readTx.execute(status -> professionalRepository.findWithProfileById(professionalId).map(SearchDocumentLoader::toDocument));
+    }
+
+    /**
+     * Streams every professional to {@code sink}, one page per transaction. Returns the count.
+     * Each page's collections load in batches (see {@link Professional#BATCH_SIZE}), not per row.
+     */
+    public int loadAll(Consumer<SearchDocument> sink) {
+        int loaded = 0;
+        int page = 0;
+        while (true) {
+            int pageNo = page;
+            List<SearchDocument> batch = readTx.execute(status -> {
+                Page<Professional> rows = professionalRepository.findSummaryPage(
+                    PageRequest.of(pageNo, BATCH_SIZE, Sort.by("id")));
+                return rows.map(SearchDocumentLoader::toDocument).getContent();
+            });
+            if (batch == null || batch.isEmpty()) return loaded;
+            batch.forEach(sink);
+            loaded += batch.size();
+            if (batch.size() < BATCH_SIZE) return loaded;
+            page++;
+        }
+    }
+
+    static SearchDocument toDocument(Professional p) {
+        String displayName = p.getDisplayName() != null && !p.getDisplayName().isBlank()
+            ? p.getDisplayName() : p.getFullName();
+        return new SearchDocument(
+            p.getId(),
+            displayName,
+            p.getHeadline(),
+            p.getCategoryName(),
+            p.getSubcategories().stream().map(Subcategory::getName).sorted().toList(),
+            p.getServices().stream().map(ServiceOffering::getTitle).toList(),
+            p.getServiceAreas().stream().map(ServiceArea::getAreaName).toList(),
+            p.getCity(),
+            p.getState(),
+            p.getCountry(),
+            Boolean.TRUE.equals(p.getRemote()),
+            Boolean.TRUE.equals(p.getIsAvailable()),
+            p.getLatitude()  != null ? p.getLatitude().doubleValue()  : null,
+            p.getLongitude() != null ? p.getLongitude().doubleValue() : null,
+            p.getRating() != null ? p.getRating().doubleValue() : SearchCursor.NO_RATING,
+            p.getReviewCount() != null ? p.getReviewCount() : 0,
+            Set.copyOf(TextAnalyzer.tokens(p.getBio()))
+        );
+    }
+}
@@ -0,0 +1,93 @@
+package com.proconnect.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool for the independent reads of one search (app.search.execution=parallel):
+ * count and facet queries run here while the request thread runs the page query.
+ * When the queue is full the caller runs the read itself, so overload degrades to
+ * sequential execution rather than rejecting searches.
+ *
+ * Deliberately not an {@link java.util.concurrent.Executor} bean — that would replace
+ * Spring Boot's applicationTaskExecutor.
+ */
+@Slf4j
+@Component
+public class SearchExecutor {
+
+    private final ThreadPoolExecutor pool;
+
+    public SearchExecutor(@Value("${app.search.parallel.pool-size:8}") int poolSize,
+                          @Value("${app.search.parallel.queue-capacity:64}") int queueCapacity) {
+        AtomicInteger threads = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            r -> {
+                Thread t = new Thread(r, "search-" + threads.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        this.pool.allowCoreThreadTimeOut(true);
+    }
+
+    /** Starts a read now; its deadline counts from this call. */
+    public <T> Branch<T> fork(String name, Callable<T> read, long timeoutMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        return new Branch<>(name, pool.submit(read), deadline);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /** One forked read. */
+    public static final class Branch<T> {
+
+        private final String name;
+        private final Future<T> future;
+        private final long deadline;
+        private volatile boolean missed;
+
+        private Branch(String name, Future<T> future, long deadline) {
+            this.name = name;
+            this.future = future;
+            this.deadline = deadline;
+        }
+
+        /** The result, or empty when the read failed or missed its deadline (it is cancelled then). */
+        public Optional<T> join() {
+            try {
+                return Optional.ofNullable(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                log.warn("Search branch '{}' timed out — continuing without it", name);
+            } catch (ExecutionException e) {
+                log.warn("Search branch '{}' failed — continuing without it: {}", name, e.getCause().toString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            future.cancel(true);
+            missed = true;
+            return Optional.empty();
+        }
+
+        /** True once {@link #join} has given up on this read */
+        public boolean missed() {
+            return missed;
+        }
+    }
+}
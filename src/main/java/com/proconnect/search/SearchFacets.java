@@ -0,0 +1,95 @@
+package com.proconnect.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Category / city / service-area facet counts, held in memory.
+ *
+ * Whole-catalogue counts are maintained incrementally from document changes;
+ * {@link #forDocuments} computes the same dimensions over just the current result set,
+ * so "plumber in Indiranagar" shows counts for that search rather than for everyone.
+ * Used by the memory backend only; the db backend counts in SQL, over the page query's own matches.
+ */
+@Component
+public class SearchFacets implements SearchDocumentListener {
+
+    /** Same limits as the old facetsByCategory / facetsByCity / facetsByServiceArea queries */
+    static final int CATEGORY_LIMIT = 20;
+    static final int CITY_LIMIT     = 20;
+    static final int AREA_LIMIT     = 30;
+
+    public record Facets(Map<String, Long> categories, Map<String, Long> cities, Map<String, Long> areas) {}
+
+    private final Map<String, Long> categoryCounts = new ConcurrentHashMap<>();
+    private final Map<String, Long> cityCounts     = new ConcurrentHashMap<>();
+    private final Map<String, Long> areaCounts     = new ConcurrentHashMap<>();
+
+    /** Rebuilt lazily after a change */
+    private volatile Facets snapshot;
+
+    @Override
+    public void onDocumentChanged(SearchDocument previous, SearchDocument current) {
+        if (previous != null) count(previous, -1);
+        if (current  != null) count(current,  +1);
+        snapshot = null;
+    }
+
+    /** Facets over every professional. */
+    public Facets global() {
+        Facets s = snapshot;
+        if (s == null) {
+            s = new Facets(top(categoryCounts, CATEGORY_LIMIT), top(cityCounts, CITY_LIMIT), top(areaCounts, AREA_LIMIT));
+            snapshot = s;
+        }
+        return s;
+    }
+
+    /** Facets restricted to the given documents — typically every match of the active search. */
+    public Facets forDocuments(Iterable<SearchDocument> docs) {
+        Map<String, Long> categories = new HashMap<>();
+        Map<String, Long> cities     = new HashMap<>();
+        Map<String, Long> areas      = new HashMap<>();
+        for (SearchDocument doc : docs) {
+            increment(categories, doc.categoryName(), 1);
+            increment(cities, doc.city(), 1);
+            for (String area : distinctAreas(doc)) increment(areas, area, 1);
+        }
+        return new Facets(top(categories, CATEGORY_LIMIT), top(cities, CITY_LIMIT), top(areas, AREA_LIMIT));
+    }
+
+    private void count(SearchDocument doc, long delta) {
+        increment(categoryCounts, doc.categoryName(), delta);
+        increment(cityCounts, doc.city(), delta);
+        for (String area : distinctAreas(doc)) increment(areaCounts, area, delta);
+    }
+
+    private static Set<String> distinctAreas(SearchDocument doc) {
+        return new HashSet<>(doc.serviceAreas());
+    }
+
+    private static void increment(Map<String, Long> counts, String key, long delta) {
+        if (key == null || key.isBlank()) return;
+        counts.compute(key, (k, v) -> {
+            long n = (v == null ? 0 : v) + delta;
+            return n > 0 ? n : null;
+        });
+    }
+
+    private static Map<String, Long> top(Map<String, Long> counts, int limit) {
+        Map<String, Long> out = new LinkedHashMap<>();
+        counts.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()))
+            .limit(limit)
+            .forEach(e -> out.put(e.getKey(), e.getValue()));
+        return out;
+    }
+}
@@ -0,0 +1,57 @@
+package com.proconnect.search;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Fully resolved search filters — what's left of a {@link com.proconnect.dto.ProfessionalSearchCriteria}
+ * after alias normalisation and natural-language parsing. Null = filter not applied.
+ *
+ * @param subcategoryNames lower-cased subcategory names, or null for no filter
+ * @param sort             result order — always RELEVANCE without a geo filter
+ */
+public record SearchFilters(
+    String query,
+    String city,
+    String state,
+    String country,
+    Boolean remote,
+    Boolean available,
+    String category,
+    String area,
+    List<String> subcategoryNames,
+    Double lat,
+    Double lng,
+    double radiusKm,
+    SearchSort sort
+) {
+
+    public SearchFilters {
+        if (sort == null || lat == null || lng == null) sort = SearchSort.RELEVANCE;
+    }
+
+    public SearchFilters(String query, String city, String state, String country, Boolean remote, Boolean available,
+                         String category, String area, List<String> subcategoryNames,
+                         Double lat, Double lng, double radiusKm) {
+        this(query, city, state, country, remote, available, category, area, subcategoryNames,
+            lat, lng, radiusKm, SearchSort.RELEVANCE);
+    }
+
+    public boolean hasGeoFilter() {
+        return lat != null && lng != null;
+    }
+
+    /** No filter at all — every professional matches. */
+    public boolean isUnfiltered() {
+        return query == null && city == null && state == null && country == null && remote == null
+            && available == null && category == null && area == null && subcategoryNames == null && !hasGeoFilter();
+    }
+
+    /** pg array literal for the native queries — e.g. '{plumbing,tiling}' */
+    public String subcategoryArrayLiteral() {
+        if (subcategoryNames == null) return null;
+        return "{" + subcategoryNames.stream()
+            .map(n -> n.replace("'", "''"))
+            .collect(Collectors.joining(",")) + "}";
+    }
+}
@@ -0,0 +1,79 @@
+package com.proconnect.search;
+
+import com.proconnect.service.ProfessionalChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the professional_search_docs read model in step with profile and review writes.
+ *
+ * Runs just before the writing transaction commits, so the row is rewritten atomically
+ * with the change that caused it. Deletes need nothing here — the row goes with the
+ * professional (ON DELETE CASCADE).
+ *
+ * Writes that bypass the app's professional and review services — a category or
+ * subcategory renamed in SQL, rows loaded by a script — raise no event. While the docs
+ * read model is in use, a scheduled backfill (app.search.read-model.backfill-cron)
+ * rewrites every row to catch those.
+ */
+@Slf4j
+@Component
+public class SearchReadModelWriter {
+
+    private static final String REFRESH_SQL = "SELECT refresh_professional_search_doc(:id)";
+    private static final String BACKFILL_SQL =
+        "SELECT COALESCE(SUM(refresh_professional_search_doc(p.id)), 0) FROM professionals p";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.search.read-model.sync:false}")
+    private boolean sync;
+
+    @Value("${app.search.read-model:tables}")
+    private String readModel;
+
+    /** Searching a read model nothing keeps current would silently serve stale rows */
+    @PostConstruct
+    void checkConfiguration() {
+        if ("docs".equalsIgnoreCase(readModel) && !sync) {
+            throw new IllegalStateException(
+                "app.search.read-model=docs requires app.search.read-model.sync=true " +
+                "(SEARCH_READ_MODEL_SYNC) — otherwise professional_search_docs is never refreshed.");
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onProfessionalChanged(ProfessionalChangedEvent event) {
+        if (!sync || event.deleted()) return;
+        // The refresh reads the tables, so pending entity changes must reach them first
+        entityManager.flush();
+        entityManager.createNativeQuery(REFRESH_SQL)
+            .setParameter("id", event.professionalId())
+            .getSingleResult();
+        log.debug("Search read model refreshed for professional {}", event.professionalId());
+    }
+
+    /**
+     * Rewrites every row — picks up category, subcategory and service changes made outside the app.
+     * Async, so a long rewrite doesn't hold up the jobs sharing the scheduler thread.
+     */
+    @Async
+    @Scheduled(cron = "${app.search.read-model.backfill-cron:0 30 3 * * *}")
+    @Transactional
+    public void backfill() {
+        if (!"docs".equalsIgnoreCase(readModel)) return;
+        long start = System.currentTimeMillis();
+        Number rows = (Number) entityManager.createNativeQuery(BACKFILL_SQL).getSingleResult();
+        log.info("Search read model backfilled: {} rows in {} ms", rows, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,173 @@
+package com.proconnect.search;
+
+import com.proconnect.dto.ProfessionalCardDTO;
+import com.proconnect.dto.ProfessionalDTO;
+import com.proconnect.dto.ProfessionalSearchCriteria;
+import com.proconnect.dto.SearchResultDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * LRU + TTL cache of search responses, keyed by canonicalised criteria.
+ *
+ * Entries are dropped selectively when a professional changes: only those whose page
+ * contains that professional, or whose filters the old or new version passes (the
+ * match set, total and facets could all move). Text queries are not re-evaluated —
+ * any structural match invalidates, which errs on the side of a fresh search.
+ * Location pings only drop the geo searches around the old and new position.
+ *
+ * Invalidation only hears about changes made on this instance, so the cache is off by default
+ * (app.search.cache.enabled) — turn it on only for a single-instance deployment.
+ */
+@Slf4j
+@Component
+public class SearchResultCache implements SearchDocumentListener {
+
+    private final ProfessionalSearchIndex searchIndex;
+
+    @Value("${app.search.cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.search.cache.max-entries:5000}")
+    private int maxEntries = 5000;
+
+    @Value("${app.search.cache.ttl-seconds:60}")
+    private long ttlSeconds = 60;
+
+    /**
+     * Canonical form of a {@link ProfessionalSearchCriteria} — two requests with equal keys get the same response.
+     * Query and city are kept as sent, because the response echoes them. Coordinates are exact, because
+     * distances and radius membership depend on them.
+     */
+    public record Key(String query, String city, String state, String country, Boolean remote, Boolean available,
+                      String category, String area, List<String> subcategories,
+                      Double lat, Double lng, double radiusKm, SearchSort sort, int page, int pageSize, String cursor,
+                      boolean cardView) {
+
+        public static Key of(ProfessionalSearchCriteria c) {
+            List<String> subcategories = c.hasSubcategoriesFilter()
+                ? c.effectiveSubcategories().stream().map(Key::lower).filter(Objects::nonNull).distinct().sorted().toList()
+                : null;
+            return new Key(
+                c.getQuery(), c.getCity(), lower(c.getState()), lower(c.getCountry()), c.getRemote(), c.getAvailable(),
+                c.hasCategoriesFilter() ? lower(c.getCategories().get(0)) : null, lower(c.getArea()), subcategories,
+                c.hasGeoFilter() ? c.getLat() : null, c.hasGeoFilter() ? c.getLng() : null,
+                c.getRadiusKm(), c.hasGeoFilter() ? SearchSort.from(c.getSort()) : SearchSort.RELEVANCE,
+                Math.max(0, c.getPage()), c.getPageSize() > 0 ? c.getPageSize() : 10,
+                c.getCursor() == null || c.getCursor().isBlank() ? null : c.getCursor(), c.isCardView());
+        }
+
+        private static String lower(String s) {
+            if (s == null || s.isBlank()) return null;
+            return s.trim().replaceAll("\\s+", " ").toLowerCase();
+        }
+    }
+
+    private record Entry(SearchFilters filters, Set<Long> ids, SearchResultDTO result, long expiresAt) {}
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    /** Bumped on every invalidation — a result computed across one is not stored */
+    private long generation;
+
+    public SearchResultCache(ProfessionalSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public synchronized SearchResultDTO get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) return null;
+        if (entry.expiresAt() < System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.result();
+    }
+
+    /** Taken before running a search; pass it back to {@link #put}. */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Stores a response unless a professional changed since {@code generation} was read —
+     * the change may have landed after the search read its data.
+     */
+    public synchronized void put(Key key, SearchFilters filters, SearchResultDTO result, long generation) {
+        if (generation != this.generation) return;
+        Set<Long> ids = result.getCards() != null
+            ? result.getCards().stream().map(ProfessionalCardDTO::getId).collect(Collectors.toSet())
+            : result.getResults().stream().map(ProfessionalDTO::getId).collect(Collectors.toSet());
+        entries.put(key, new Entry(filters, ids, result, System.currentTimeMillis() + ttlSeconds * 1000));
+    }
+
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+    }
+
+    @Override
+    public synchronized void onDocumentChanged(SearchDocument previous, SearchDocument current) {
+        generation++;
+        if (entries.isEmpty()) return;
+        long id = current != null ? current.id() : previous.id();
+        int before = entries.size();
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.ids().contains(id)
+                    || (previous != null && searchIndex.matchesFilters(previous, entry.filters()))
+                    || (current  != null && searchIndex.matchesFilters(current,  entry.filters()))) {
+                it.remove();
+            }
+        }
+        if (entries.size() < before) {
+            log.debug("Professional {} changed — dropped {} cached searches", id, before - entries.size());
+        }
+    }
+
+    /**
+     * A live location ping: only geo searches whose radius covers the old or the new position
+     * can change. Everything else is left alone, and the generation is not bumped — pings are
+     * far too frequent to discard every in-flight result, and a result computed from the
+     * previous position is at most one ping stale.
+     */
+    @Override
+    public synchronized void onDocumentMoved(SearchDocument previous, SearchDocument current) {
+        if (entries.isEmpty()) return;
+        int before = entries.size();
+        Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, Entry> e = it.next();
+            Key key = e.getKey();
+            if (key.lat() == null || key.lng() == null) continue;
+            if (within(previous, key) || within(current, key)) it.remove();
+        }
+        if (entries.size() < before) {
+            log.debug("Professional {} moved — dropped {} cached geo searches", current.id(), before - entries.size());
+        }
+    }
+
+    private static boolean within(SearchDocument doc, Key key) {
+        return doc.hasLocation()
+            && GeoMath.distanceKm(key.lat(), key.lng(), doc.latitude(), doc.longitude()) < key.radiusKm();
+    }
+}
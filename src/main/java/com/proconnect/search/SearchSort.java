@@ -0,0 +1,39 @@
+package com.proconnect.search;
+
+/**
+ * Result order for a geo search. Every mode is expressed as one score, sorted descending
+ * (then rating, then id), so paging, cursors and both backends work the same for all three.
+ *
+ *   RELEVANCE — text rank; distance only filters (the default, and the only mode without lat/lng)
+ *   DISTANCE  — nearest first: score = -distanceKm
+ *   BLENDED   — text rank plus a proximity bonus falling linearly from {@link #PROXIMITY_WEIGHT}
+ *               at the searcher to 0 at the radius edge
+ */
+public enum SearchSort {
+    RELEVANCE,
+    DISTANCE,
+    BLENDED;
+
+    /** Comparable to a strong headline match (similarity × 0.5) — proximity nudges, text still leads */
+    public static final double PROXIMITY_WEIGHT = 0.5;
+
+    /** @throws IllegalArgumentException for an unknown value */
+    public static SearchSort from(String value) {
+        if (value == null || value.isBlank()) return RELEVANCE;
+        return valueOf(value.trim().toUpperCase());
+    }
+
+    /**
+     * The ranking score for a match — mirrors ProfessionalSearchSqlBuilder's score expression.
+     *
+     * @param distanceKm distance from the searcher, or null without a geo filter
+     */
+    public double score(double relevance, Double distanceKm, double radiusKm) {
+        if (distanceKm == null) return relevance;
+        return switch (this) {
+            case RELEVANCE -> relevance;
+            case DISTANCE  -> -distanceKm;
+            case BLENDED   -> relevance + PROXIMITY_WEIGHT * (1 - distanceKm / radiusKm);
+        };
+    }
+}
@@ -0,0 +1,221 @@
+package com.proconnect.search;
+
+import com.proconnect.repository.CategoryRepository;
+import com.proconnect.repository.SubcategoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+
+/**
+ * Typeahead completions — category, subcategory, service-area, city and professional names,
+ * matched on the start of any word ("lay" → "HSR Layout").
+ *
+ * Every name is stored once; a sorted set of "word suffix \0 key" strings is the prefix
+ * structure, so a lookup is one range scan. Names come from the search documents (with
+ * per-name reference counts, which double as the ranking weight) plus the category and
+ * subcategory catalog, which stays suggestible even before anyone offers it.
+ * Ranked lists are cached per prefix and dropped on any change.
+ */
+@Slf4j
+@Component
+public class SuggestionIndex implements SearchDocumentListener {
+
+    public static final int MAX_LIMIT = 20;
+
+    private static final int     MAX_CACHED_PREFIXES = 2_000;
+    private static final Pattern WORD_BREAK          = Pattern.compile("[^a-z0-9]+");
+
+    public enum Kind { CATEGORY, SUBCATEGORY, AREA, CITY, PROFESSIONAL }
+
+    /**
+     * @param count          professionals behind a term (1 for a professional's own name)
+     * @param professionalId set for {@link Kind#PROFESSIONAL} only
+     */
+    public record Suggestion(String text, Kind kind, int count, Long professionalId) {}
+
+    private record Entry(String text, Kind kind, Long professionalId, double rating, List<String> prefixKeys) {}
+
+    private final CategoryRepository categoryRepository;
+    private final SubcategoryRepository subcategoryRepository;
+
+    /** "KIND|normalised name" (or "PROFESSIONAL|id") → entry, reference count, catalog pin */
+    private final Map<String, Entry>   entries   = new ConcurrentHashMap<>();
+    private final Map<String, Integer> refCounts = new ConcurrentHashMap<>();
+    private final Set<String>          catalog   = ConcurrentHashMap.newKeySet();
+    private final NavigableSet<String> prefixes  = new ConcurrentSkipListSet<>();
+
+    // ── guarded by this ──
+    private final Map<String, List<Suggestion>> ranked = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<Suggestion>> eldest) {
+            return size() > MAX_CACHED_PREFIXES;
+        }
+    };
+    private long generation;
+
+    public SuggestionIndex(CategoryRepository categoryRepository, SubcategoryRepository subcategoryRepository) {
+        this.categoryRepository = categoryRepository;
+        this.subcategoryRepository = subcategoryRepository;
+    }
+
+    // ── Maintenance ───────────────────────────────────────────────────────────
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCatalog() {
+        categoryRepository.findByIsActiveTrueOrderBySortOrder().forEach(c -> addCatalogName(Kind.CATEGORY, c.getName()));
+        subcategoryRepository.findAllOrderByName().forEach(s -> addCatalogName(Kind.SUBCATEGORY, s.getName()));
+        log.info("Suggestion catalog loaded: {} names", catalog.size());
+    }
+
+    /** Pins a category / subcategory name so it is suggested whether or not anyone offers it yet. */
+    public synchronized void addCatalogName(Kind kind, String name) {
+        if (name == null || name.isBlank()) return;
+        String key = termKey(kind, name);
+        if (catalog.add(key)) {
+            entries.computeIfAbsent(key, k -> index(k, name.trim(), kind, null, 0));
+            changed();
+        }
+    }
+
+    @Override
+    public synchronized void onDocumentChanged(SearchDocument previous, SearchDocument current) {
+        if (previous != null) {
+            terms(previous).forEach((key, term) -> release(key));
+            remove("PROFESSIONAL|" + previous.id());
+        }
+        if (current != null) {
+            terms(current).forEach((key, term) -> retain(key, term.text(), term.kind()));
+            if (current.displayName() != null && !current.displayName().isBlank()) {
+                String key = "PROFESSIONAL|" + current.id();
+                entries.put(key, index(key, current.displayName().trim(), Kind.PROFESSIONAL, current.id(), current.rating()));
+            }
+        }
+        changed();
+    }
+
+    // ── Lookup ────────────────────────────────────────────────────────────────
+
+    /**
+     * Best completions for what has been typed so far: names starting with the prefix first,
+     * then by how many professionals they cover, then rating, then shortest.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String normalized = String.join(" ", words(prefix));
+        if (normalized.isEmpty() || limit <= 0) return List.of();
+        int n = Math.min(limit, MAX_LIMIT);
+
+        long seen;
+        synchronized (this) {
+            List<Suggestion> cached = ranked.get(normalized);
+            if (cached != null) return cached.subList(0, Math.min(n, cached.size()));
+            seen = generation;
+        }
+
+        Set<String> keys = new HashSet<>();
+        for (String prefixKey : prefixes.subSet(normalized, true, normalized + Character.MAX_VALUE, false)) {
+            keys.add(prefixKey.substring(prefixKey.indexOf('\0') + 1));
+        }
+        List<Candidate> candidates = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            Entry entry = entries.get(key);
+            if (entry == null) continue;
+            boolean leading = entry.prefixKeys().get(0).startsWith(normalized);
+            candidates.add(new Candidate(entry, refCounts.getOrDefault(key, entry.kind() == Kind.PROFESSIONAL ? 1 : 0), leading));
+        }
+        List<Suggestion> top = candidates.stream()
+            .sorted(RANKING)
+            .limit(MAX_LIMIT)
+            .map(c -> new Suggestion(c.entry().text(), c.entry().kind(), c.count(), c.entry().professionalId()))
+            .toList();
+
+        synchronized (this) {
+            if (generation == seen) ranked.put(normalized, top);
+        }
+        return top.subList(0, Math.min(n, top.size()));
+    }
+
+    private record Candidate(Entry entry, int count, boolean leading) {}
+
+    private static final Comparator<Candidate> RANKING = Comparator
+        .comparing(Candidate::leading).reversed()
+        .thenComparing(Comparator.comparingInt(Candidate::count).reversed())
+        .thenComparing(Comparator.comparingDouble((Candidate c) -> c.entry().rating()).reversed())
+        .thenComparingInt(c -> c.entry().text().length())
+        .thenComparing(c -> c.entry().text());
+
+    // ── internals ─────────────────────────────────────────────────────────────
+
+    /** Distinct term names a document contributes, by key */
+    private static Map<String, Entry> terms(SearchDocument doc) {
+        Map<String, Entry> out = new LinkedHashMap<>();
+        addTerm(out, Kind.CATEGORY, doc.categoryName());
+        doc.subcategoryNames().forEach(s -> addTerm(out, Kind.SUBCATEGORY, s));
+        doc.serviceAreas().forEach(a -> addTerm(out, Kind.AREA, a));
+        addTerm(out, Kind.CITY, doc.city());
+        return out;
+    }
+
+    private static void addTerm(Map<String, Entry> out, Kind kind, String name) {
+        if (name == null || name.isBlank()) return;
+        out.putIfAbsent(termKey(kind, name), new Entry(name.trim(), kind, null, 0, List.of()));
+    }
+
+    private void retain(String key, String text, Kind kind) {
+        if (refCounts.merge(key, 1, Integer::sum) == 1) {
+            entries.computeIfAbsent(key, k -> index(k, text, kind, null, 0));
+        }
+    }
+
+    private void release(String key) {
+        Integer left = refCounts.computeIfPresent(key, (k, n) -> n > 1 ? n - 1 : null);
+        if (left == null && !catalog.contains(key)) remove(key);
+    }
+
+    /** Creates the entry and registers it under every word-start suffix of its name. */
+    private Entry index(String key, String text, Kind kind, Long professionalId, double rating) {
+        List<String> words = words(text);
+        List<String> prefixKeys = new ArrayList<>(words.size());
+        for (int i = 0; i < words.size(); i++) {
+            String prefixKey = String.join(" ", words.subList(i, words.size())) + '\0' + key;
+            prefixKeys.add(prefixKey);
+            prefixes.add(prefixKey);
+        }
+        if (prefixKeys.isEmpty()) prefixKeys.add('\0' + key);
+        return new Entry(text, kind, professionalId, rating, prefixKeys);
+    }
+
+    private void remove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) entry.prefixKeys().forEach(prefixes::remove);
+    }
+
+    private void changed() {
+        generation++;
+        ranked.clear();
+    }
+
+    private static String termKey(Kind kind, String name) {
+        return kind.name() + "|" + String.join(" ", words(name));
+    }
+
+    private static List<String> words(String text) {
+        List<String> out = new ArrayList<>();
+        for (String w : WORD_BREAK.split(TextAnalyzer.normalize(text))) {
+            if (!w.isEmpty()) out.add(w);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,66 @@
+package com.proconnect.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Tokenizer used by the in-memory search structures.
+ * Roughly mirrors what the 'english' FTS config + unaccent do on the DB side:
+ * lower-case, strip accents, split on non-alphanumerics, drop stop words, light stemming.
+ */
+public final class TextAnalyzer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALNUM  = Pattern.compile("[^a-z0-9]+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "i", "in", "is",
+        "it", "my", "near", "of", "on", "or", "the", "to", "with", "we", "you", "your"
+    );
+
+    private TextAnalyzer() {}
+
+    /** Lower-case + accent-fold + collapse whitespace. Null-safe. */
+    public static String normalize(String text) {
+        if (text == null) return "";
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return folded.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+
+    /** Analyzed terms in order of appearance (duplicates kept). */
+    public static List<String> tokens(String text) {
+        List<String> out = new ArrayList<>();
+        for (String raw : NON_ALNUM.split(normalize(text))) {
+            if (raw.isEmpty() || STOP_WORDS.contains(raw)) continue;
+            out.add(stem(raw));
+        }
+        return out;
+    }
+
+    /** Distinct analyzed terms across several values. */
+    public static Set<String> terms(Iterable<String> values) {
+        Set<String> out = new LinkedHashSet<>();
+        for (String v : values) out.addAll(tokens(v));
+        return out;
+    }
+
+    /**
+     * Minimal suffix stripper — enough for "plumbers" → "plumber" and
+     * "plumbing" → "plumb" so that prefix matching lines up the variants.
+     */
+    static String stem(String term) {
+        int n = term.length();
+        if (n <= 3 || Character.isDigit(term.charAt(n - 1))) return term;
+        if (term.endsWith("ies") && n > 4)  return term.substring(0, n - 3) + "y";
+        if (term.endsWith("ing") && n > 5)  return term.substring(0, n - 3);
+        if (term.endsWith("sses"))          return term.substring(0, n - 2);
+        if (term.endsWith("ches") || term.endsWith("shes") || term.endsWith("xes")) return term.substring(0, n - 2);
+        if (term.endsWith("s") && !term.endsWith("ss") && !term.endsWith("us")) return term.substring(0, n - 1);
+        return term;
+    }
+}
@@ -0,0 +1,38 @@
+package com.proconnect.search;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Java port of pg_trgm's similarity() so in-memory matching uses the same
+ * thresholds as the SQL queries (0.2 for city/area, 0.25 for keywords).
+ */
+public final class Trigrams {
+
+    private Trigrams() {}
+
+    /** pg_trgm trigram set: each word is padded with two leading and one trailing space. */
+    public static Set<String> of(String text) {
+        Set<String> out = new HashSet<>();
+        for (String word : TextAnalyzer.normalize(text).split("[^a-z0-9]+")) {
+            if (word.isEmpty()) continue;
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                out.add(padded.substring(i, i + 3));
+            }
+        }
+        return out;
+    }
+
+    /** |A ∩ B| / |A ∪ B| — 0.0 when either side is empty. */
+    public static double similarity(String a, String b) {
+        return similarity(of(a), of(b));
+    }
+
+    public static double similarity(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) return 0.0;
+        int shared = 0;
+        for (String t : a) if (b.contains(t)) shared++;
+        return (double) shared / (a.size() + b.size() - shared);
+    }
+}
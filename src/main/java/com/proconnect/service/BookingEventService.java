@@ -1,14 +1,15 @@
 package com.proconnect.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.proconnect.dto.BookingDTO;
 import com.proconnect.dto.JobPostDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -16,7 +17,8 @@ import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Manages SSE emitters for real-time booking push notifications.
- * One list of emitters per professional ID.
+ * One list of emitters per professional ID on this instance; pushes go through
+ * {@link ClusterEventBus} so they reach a professional's stream on whichever instance holds it.
  */
 @Slf4j
 @Service
@@ -25,7 +27,7 @@ public class BookingEventService {
 
     // professionalId -> list of active SSE connections
     private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
-    private final ObjectMapper objectMapper;
+    private final ClusterEventBus clusterEventBus;
 
     /** Subscribe a new SSE connection for a professional. */
     public SseEmitter subscribe(Long professionalId) {
@@ -59,58 +61,50 @@ public class BookingEventService {
         return emitter;
     }
 
-    /** Push a new booking event to all active connections for a professional. */
+    /** Push a new booking event to the professional's connections on every instance. */
     public void pushNewBooking(Long professionalId, BookingDTO booking) {
-        List<SseEmitter> list = emitters.get(professionalId);
-        if (list == null || list.isEmpty()) return;
+        clusterEventBus.publish(ClusterEvent.NEW_BOOKING, List.of(professionalId), booking);
+    }
 
-        String json;
-        try {
-            json = objectMapper.writeValueAsString(booking);
-        } catch (IOException e) {
-            log.error("Failed to serialize BookingDTO for SSE push", e);
-            return;
-        }
+    /** Push a broadcast job post event to these professionals' connections on every instance. */
+    public void pushNewJob(Collection<Long> professionalIds, JobPostDTO job) {
+        if (!professionalIds.isEmpty()) clusterEventBus.publish(ClusterEvent.NEW_JOB, professionalIds, job);
+    }
 
-        List<SseEmitter> dead = new CopyOnWriteArrayList<>();
-        for (SseEmitter emitter : list) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("new-booking")
-                        .data(json));
-            } catch (IOException e) {
-                dead.add(emitter);
-            }
+    /** Tell these professionals' connections, on every instance, that a broadcast job expired unclaimed. */
+    public void pushJobExpired(Collection<Long> professionalIds, JobPostDTO job) {
+        if (!professionalIds.isEmpty()) clusterEventBus.publish(ClusterEvent.JOB_EXPIRED, professionalIds, job);
+    }
+
+    /**
+     * Sends a cluster event — raised here or on another instance — to the streams this instance holds.
+     * An event too large to NOTIFY arrives as a "refetch" SSE event carrying its type and id.
+     */
+    @EventListener
+    public void onClusterEvent(ClusterEvent event) {
+        String type = ClusterEvent.REFETCH.equals(event.type()) ? event.data().path("type").asText() : event.type();
+        if (ClusterEvent.JOB_ACCEPTED.equals(type)) return;
+        String json = event.data().toString();
+        for (Long professionalId : event.professionalIds()) {
+            pushLocal(professionalId, event.type(), json);
         }
-        list.removeAll(dead);
-        log.info("Pushed new-booking SSE event to {} connection(s) for professional {}",
-                list.size(), professionalId);
     }
 
-    /** Push a broadcast job post event to a professional's active SSE connections. */
-    public void pushNewJob(Long professionalId, JobPostDTO job) {
+    private void pushLocal(Long professionalId, String eventName, String json) {
         List<SseEmitter> list = emitters.get(professionalId);
         if (list == null || list.isEmpty()) return;
 
-        String json;
-        try {
-            json = objectMapper.writeValueAsString(job);
-        } catch (IOException e) {
-            log.error("Failed to serialize JobPostDTO for SSE push", e);
-            return;
-        }
-
         List<SseEmitter> dead = new CopyOnWriteArrayList<>();
         for (SseEmitter emitter : list) {
             try {
                 emitter.send(SseEmitter.event()
-                        .name("new-job")
+                        .name(eventName)
                         .data(json));
             } catch (IOException e) {
                 dead.add(emitter);
             }
         }
         list.removeAll(dead);
-        log.info("Pushed new-job SSE event to {} connection(s) for professional {}", list.size(), professionalId);
+        log.info("Pushed {} SSE event to {} connection(s) for professional {}", eventName, list.size(), professionalId);
     }
 }
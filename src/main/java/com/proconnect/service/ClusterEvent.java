@@ -0,0 +1,28 @@
+package com.proconnect.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * A push notification for professionals, fanned out to every instance by {@link ClusterEventBus}.
+ * Published as a Spring event on each instance — at once on the one that raised it
+ * ({@code remote = false}), and on the others when the NOTIFY arrives ({@code remote = true}).
+ *
+ * @param type            also the SSE event name for the types that reach dashboards
+ * @param professionalIds whose dashboards should hear about it
+ * @param data            the BookingDTO / JobPostDTO, as JSON
+ */
+public record ClusterEvent(String type, List<Long> professionalIds, JsonNode data, boolean remote) {
+
+    public static final String NEW_BOOKING  = "new-booking";
+    public static final String NEW_JOB      = "new-job";
+    public static final String JOB_EXPIRED  = "job-expired";
+    /** No dashboard push — lets the other instances drop the job from their open-job registry */
+    public static final String JOB_ACCEPTED = "job-accepted";
+    /**
+     * Stands in for an event whose data is too large to NOTIFY. Its data holds only the original
+     * {@code type} and the {@code id}, so receivers reload instead of silently missing the push.
+     */
+    public static final String REFETCH      = "refetch";
+}
@@ -0,0 +1,223 @@
+package com.proconnect.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fans professional push notifications out to every instance over Postgres LISTEN/NOTIFY, so an
+ * SSE stream receives bookings and jobs raised on any node, not just its own.
+ *
+ * {@link #publish} delivers on this instance at once and sends one NOTIFY on the shared
+ * datasource. Inside a transaction, Postgres holds the NOTIFY until commit. Each instance keeps
+ * one dedicated connection — outside the pool — LISTENing on {@value #CHANNEL}. It turns every
+ * notification from another instance into a local {@link ClusterEvent}. Data too large for a
+ * NOTIFY is replaced by a {@link ClusterEvent#REFETCH} carrying only its type and id.
+ *
+ * Delivery is best effort. Notifications sent while the listener is reconnecting are lost;
+ * dashboards still catch up through GET /api/jobs/open and the open-job registry's resync.
+ */
+@Slf4j
+@Service
+public class ClusterEventBus {
+
+    static final String CHANNEL = "proconnect_events";
+
+    /** NOTIFY payloads must stay under 8000 bytes */
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final int POLL_TIMEOUT_MS = 500;
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    /** What travels in the NOTIFY payload */
+    record Envelope(String origin, String type, List<Long> professionalIds, JsonNode data) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DataSourceProperties dataSourceProperties;
+    private final boolean enabled;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile boolean running;
+    private volatile Connection listenConnection;
+    private Thread listener;
+
+    public ClusterEventBus(JdbcTemplate jdbcTemplate,
+                           ObjectMapper objectMapper,
+                           ApplicationEventPublisher eventPublisher,
+                           DataSourceProperties dataSourceProperties,
+                           @Value("${app.cluster.events.enabled:true}") boolean enabled) {
+        this.jdbcTemplate         = jdbcTemplate;
+        this.objectMapper         = objectMapper;
+        this.eventPublisher       = eventPublisher;
+        this.dataSourceProperties = dataSourceProperties;
+        this.enabled              = enabled;
+    }
+
+    // ── Publish ───────────────────────────────────────────────────────────────
+
+    /** Delivers {@code data} to the professionals' dashboards on this instance and every other. */
+    public void publish(String type, Collection<Long> professionalIds, Object data) {
+        List<Long> ids = List.copyOf(professionalIds);
+        JsonNode json = objectMapper.valueToTree(data);
+        eventPublisher.publishEvent(new ClusterEvent(type, ids, json, false));
+        if (enabled) notifyOthers(new Envelope(nodeId, type, ids, json));
+    }
+
+    /**
+     * Splits the recipients until each NOTIFY fits. Data too large to fit even for one recipient
+     * goes out as a {@link ClusterEvent#REFETCH} instead, so other instances still hear about it.
+     */
+    private void notifyOthers(Envelope envelope) {
+        String payload = serialize(envelope);
+        if (payload == null) return;
+        List<Long> ids = envelope.professionalIds();
+        if (tooLarge(payload)) {
+            boolean splittable = ids.size() > 1
+                    && !tooLarge(serialize(new Envelope(envelope.origin(), envelope.type(), List.of(), envelope.data())));
+            if (!splittable) {
+                if (ClusterEvent.REFETCH.equals(envelope.type())) {
+                    log.warn("Refetch cluster event too large to NOTIFY ({} chars) — delivered on this instance only",
+                            payload.length());
+                    return;
+                }
+                log.warn("{} cluster event too large to NOTIFY ({} chars) — sending a refetch notification instead",
+                        envelope.type(), payload.length());
+                notifyOthers(new Envelope(envelope.origin(), ClusterEvent.REFETCH, ids, refetchData(envelope)));
+                return;
+            }
+            int half = ids.size() / 2;
+            notifyOthers(new Envelope(envelope.origin(), envelope.type(), ids.subList(0, half), envelope.data()));
+            notifyOthers(new Envelope(envelope.origin(), envelope.type(), ids.subList(half, ids.size()), envelope.data()));
+            return;
+        }
+        try {
+            jdbcTemplate.execute("SELECT pg_notify(?, ?)", (PreparedStatementCallback<Boolean>) ps -> {
+                ps.setString(1, CHANNEL);
+                ps.setString(2, payload);
+                return ps.execute();
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to NOTIFY {} cluster event — delivered on this instance only", envelope.type(), e);
+        }
+    }
+
+    private String serialize(Envelope envelope) {
+        try {
+            return objectMapper.writeValueAsString(envelope);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize {} cluster event", envelope.type(), e);
+            return null;
+        }
+    }
+
+    private static boolean tooLarge(String payload) {
+        return payload != null && payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES;
+    }
+
+    /** The original type and the id of the booking / job — all a receiver needs to reload it */
+    private JsonNode refetchData(Envelope envelope) {
+        ObjectNode data = objectMapper.createObjectNode().put("type", envelope.type());
+        JsonNode id = envelope.data() == null ? null : envelope.data().get("id");
+        if (id != null && id.isIntegralNumber()) data.put("id", id.asLong());
+        return data;
+    }
+
+    // ── Listen ────────────────────────────────────────────────────────────────
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Cluster events disabled (app.cluster.events.enabled=false) — SSE reaches this instance's streams only");
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "cluster-event-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listener != null) listener.interrupt();
+        Connection con = listenConnection;
+        if (con != null) {
+            try {
+                con.close();
+            } catch (SQLException ignored) {
+                // shutting down
+            }
+        }
+    }
+
+    /** One dedicated connection, reopened with backoff whenever it drops */
+    private void listen() {
+        long backoff = 1000;
+        while (running) {
+            try (Connection con = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                listenConnection = con;
+                try (Statement st = con.createStatement()) {
+                    st.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pg = con.unwrap(PGConnection.class);
+                log.info("Listening for cluster events on channel {} (node {})", CHANNEL, nodeId);
+                backoff = 1000;
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications == null) continue;
+                    for (PGNotification n : notifications) receive(n.getParameter());
+                }
+            } catch (SQLException e) {
+                if (!running) return;
+                log.warn("Cluster event listener lost its connection — reconnecting in {} ms", backoff, e);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+            } finally {
+                listenConnection = null;
+            }
+        }
+    }
+
+    void receive(String payload) {
+        try {
+            Envelope envelope = objectMapper.readValue(payload, Envelope.class);
+            if (nodeId.equals(envelope.origin())) return;   // already delivered locally
+            eventPublisher.publishEvent(
+                    new ClusterEvent(envelope.type(), envelope.professionalIds(), envelope.data(), true));
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed cluster event payload: {}", payload, e);
+        } catch (RuntimeException e) {
+            log.warn("Handling cluster event failed", e);
+        }
+    }
+}
@@ -386,4 +386,31 @@ public class EmailOtpService {
             log.warn("Failed to send job-assigned email to {}: {}", proEmail, e.getMessage());
         }
     }
+
+    /** Tell the customer nobody accepted their broadcast job before it expired. */
+    public void sendJobExpiredToCustomer(String customerEmail, String customerName, String category) {
+        if (devMode) {
+            log.info("DEV MODE — job expired email to customer={}, category={}", customerEmail, category);
+            return;
+        }
+        try {
+            SimpleMailMessage msg = new SimpleMailMessage();
+            msg.setFrom(fromAddress);
+            msg.setTo(customerEmail);
+            msg.setSubject("Your job request expired — ProConnect");
+            msg.setText("""
+                Hi %s,
+
+                Unfortunately no %s professional accepted your job request in time,
+                so it has expired.
+
+                You can post it again at %s, or browse professionals and book one directly.
+
+                — The ProConnect Team
+                """.formatted(customerName, category, frontendUrl));
+            mailSender.send(msg);
+        } catch (Exception e) {
+            log.warn("Failed to send job-expired email to {}: {}", customerEmail, e.getMessage());
+        }
+    }
 }
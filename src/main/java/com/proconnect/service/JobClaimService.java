@@ -0,0 +1,165 @@
+package com.proconnect.service;
+
+import com.proconnect.entity.JobPost;
+import com.proconnect.entity.Professional;
+import com.proconnect.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Claims a broadcast job for one professional — the write side of POST /api/jobs/{id}/accept.
+ *
+ * A burst of professionals tapping "accept" on the same job goes through two stages:
+ *  1. An in-memory claim gate — the first tap on this instance wins; the rest are rejected
+ *     straight away, without touching the DB.
+ *  2. One conditional UPDATE … WHERE status = 'OPEN' AND expires_at > now RETURNING, which
+ *     is the real arbiter across instances. No row back means somebody else got there first
+ *     (or the job expired).
+ *
+ * Every attempt is timed as jobs.accept, tagged with its outcome.
+ */
+@Slf4j
+@Service
+public class JobClaimService {
+
+    /** Flips the job and returns it with the accepting professional's contact details, in one statement */
+    private static final String CLAIM_SQL = """
+        WITH claimed AS (
+            UPDATE job_posts
+            SET    status = 'ACCEPTED', accepted_by_id = ?, version = version + 1
+            WHERE  id = ?
+              AND  status = 'OPEN'
+              AND  expires_at > ?
+            RETURNING id, customer_name, customer_email, customer_phone, category, description, address,
+                      lat, lng, radius_km, status, expires_at, created_at, accepted_by_id
+        )
+        SELECT c.*, p.first_name, p.last_name, p.display_name, p.email AS pro_email, p.phone AS pro_phone
+        FROM   claimed c
+        JOIN   professionals p ON p.id = c.accepted_by_id
+        """;
+
+    private static final RowMapper<JobPost> CLAIMED_ROW = (rs, i) -> {
+        Professional pro = new Professional();
+        pro.setId(rs.getLong("accepted_by_id"));
+        pro.setFirstName(rs.getString("first_name"));
+        pro.setLastName(rs.getString("last_name"));
+        pro.setDisplayName(rs.getString("display_name"));
+        pro.setEmail(rs.getString("pro_email"));
+        pro.setPhone(rs.getString("pro_phone"));
+
+        JobPost job = new JobPost();
+        job.setId(rs.getLong("id"));
+        job.setCustomerName(rs.getString("customer_name"));
+        job.setCustomerEmail(rs.getString("customer_email"));
+        job.setCustomerPhone(rs.getString("customer_phone"));
+        job.setCategory(rs.getString("category"));
+        job.setDescription(rs.getString("description"));
+        job.setAddress(rs.getString("address"));
+        job.setLat(rs.getObject("lat", Double.class));
+        job.setLng(rs.getObject("lng", Double.class));
+        job.setRadiusKm(rs.getInt("radius_km"));
+        job.setStatus(rs.getString("status"));
+        job.setExpiresAt(rs.getTimestamp("expires_at").toLocalDateTime());
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        job.setCreatedAt(createdAt != null ? createdAt.toLocalDateTime() : null);
+        job.setAcceptedBy(pro);
+        return job;
+    };
+
+    private record Claim(long professionalId, long claimedAtMillis) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long claimTtlMillis;
+
+    /** jobId → the professional whose accept this instance let through */
+    private final Map<Long, Claim> claims = new ConcurrentHashMap<>();
+
+    public JobClaimService(JdbcTemplate jdbcTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.jobs.claim.ttl-ms:300000}") long claimTtlMillis) {
+        this.jdbcTemplate   = jdbcTemplate;
+        this.meterRegistry  = meterRegistry;
+        this.claimTtlMillis = claimTtlMillis;
+    }
+
+    /**
+     * Marks the job ACCEPTED by the professional.
+     *
+     * @return the accepted job, with acceptedBy carrying the professional's name and contact details
+     * @throws OptimisticLockingFailureException if another professional claimed it first
+     * @throws IllegalStateException             if the job is no longer OPEN or has expired
+     * @throws ResourceNotFoundException         if the job or professional does not exist
+     */
+    public JobPost claim(Long jobId, Long professionalId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Claim existing = claims.putIfAbsent(jobId, new Claim(professionalId, System.currentTimeMillis()));
+            if (existing != null && existing.professionalId() != professionalId) {
+                outcome = "lost_gate";
+                throw new OptimisticLockingFailureException("Job " + jobId + " was already claimed by another professional");
+            }
+
+            List<JobPost> claimed;
+            try {
+                claimed = jdbcTemplate.query(CLAIM_SQL, CLAIMED_ROW,
+                        professionalId, jobId, Timestamp.valueOf(LocalDateTime.now()));
+            } catch (DataIntegrityViolationException e) {
+                claims.remove(jobId);
+                throw ResourceNotFoundException.professionalNotFound(professionalId);
+            } catch (RuntimeException e) {
+                claims.remove(jobId);   // let the next tap retry
+                throw e;
+            }
+            if (claimed.isEmpty()) {
+                outcome = "lost_db";
+                throw unavailable(jobId);
+            }
+            outcome = "accepted";
+            return claimed.get(0);
+        } finally {
+            sample.stop(Timer.builder("jobs.accept")
+                    .description("Job accept attempts, from tap to answer")
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+
+    /** Drops claims old enough that their job has long been accepted or expired. */
+    @Scheduled(fixedDelayString = "${app.jobs.claim.ttl-ms:300000}")
+    public void purgeClaims() {
+        long cutoff = System.currentTimeMillis() - claimTtlMillis;
+        claims.values().removeIf(c -> c.claimedAtMillis() < cutoff);
+    }
+
+    /** Why the conditional UPDATE matched nothing — only losers get here, so the extra read is rare */
+    private RuntimeException unavailable(Long jobId) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT status, expires_at FROM job_posts WHERE id = ?", jobId);
+        if (rows.isEmpty()) {
+            claims.remove(jobId);
+            return new ResourceNotFoundException("Job not found: " + jobId);
+        }
+        String status = (String) rows.get(0).get("status");
+        if ("OPEN".equals(status)) {
+            return new IllegalStateException("Job has expired");
+        }
+        return new IllegalStateException("Job is no longer available (status=" + status + ")");
+    }
+}
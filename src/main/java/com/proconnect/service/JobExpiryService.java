@@ -0,0 +1,173 @@
+package com.proconnect.service;
+
+import com.proconnect.entity.JobPost;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Expires OPEN job posts when their expiresAt passes, instead of leaving them OPEN until someone
+ * tries to accept one.
+ *
+ * Every open job sits on a {@link JobExpiryWheel} — loaded from job_posts at startup, then fed
+ * by JobPostService on create. Each tick takes the jobs that have come due and flips them to
+ * EXPIRED in one UPDATE per batch. It then publishes {@link JobPostClosedEvent} for each, which
+ * drops them from the open-job registry and notifies nearby professionals and the customer.
+ *
+ * The wheel is per instance. A periodic sweep picks up overdue jobs whose instance went away
+ * before expiring them. The UPDATE only touches rows still OPEN and due, so instances never
+ * expire a job twice or one that was just accepted.
+ */
+@Slf4j
+@Service
+public class JobExpiryService {
+
+    /** Bumps version so an accept racing the expiry fails its optimistic lock */
+    private static final String EXPIRE_SQL = """
+        UPDATE job_posts
+        SET    status = 'EXPIRED', version = version + 1
+        WHERE  id = ANY(?)
+          AND  status = 'OPEN'
+          AND  expires_at <= ?
+        RETURNING id, customer_name, customer_email, category, description, address,
+                  lat, lng, radius_km, status, expires_at, created_at
+        """;
+
+    /** 4096 one-second ticks ≈ 68 min — a 30-minute expiry never wraps the wheel */
+    private static final int WHEEL_SIZE = 4096;
+
+    private static final RowMapper<JobPost> EXPIRED_ROW = (rs, i) -> {
+        JobPost job = new JobPost();
+        job.setId(rs.getLong("id"));
+        job.setCustomerName(rs.getString("customer_name"));
+        job.setCustomerEmail(rs.getString("customer_email"));
+        job.setCategory(rs.getString("category"));
+        job.setDescription(rs.getString("description"));
+        job.setAddress(rs.getString("address"));
+        job.setLat(rs.getObject("lat", Double.class));
+        job.setLng(rs.getObject("lng", Double.class));
+        job.setRadiusKm(rs.getInt("radius_km"));
+        job.setStatus(rs.getString("status"));
+        job.setExpiresAt(rs.getTimestamp("expires_at").toLocalDateTime());
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        job.setCreatedAt(createdAt != null ? createdAt.toLocalDateTime() : null);
+        return job;
+    };
+
+    private record Deadline(long jobId, LocalDateTime expiresAt) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final JobExpiryWheel wheel;
+
+    public JobExpiryService(JdbcTemplate jdbcTemplate,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${app.jobs.expiry.tick-ms:1000}") long tickMillis,
+                            @Value("${app.jobs.expiry.batch-size:500}") int batchSize) {
+        this.jdbcTemplate   = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize      = batchSize;
+        this.wheel          = new JobExpiryWheel(tickMillis, WHEEL_SIZE, System.currentTimeMillis());
+    }
+
+    public int scheduledCount() {
+        return wheel.size();
+    }
+
+    // ── Scheduling ────────────────────────────────────────────────────────────
+
+    /** Puts every OPEN job on the wheel — overdue ones expire on the first tick. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        int loaded = loadOpenJobs("SELECT id, expires_at FROM job_posts WHERE status = 'OPEN'");
+        log.info("Job expiry wheel loaded with {} open job(s)", loaded);
+    }
+
+    /** Overdue jobs this instance never scheduled — posted on an instance that is gone. */
+    @Scheduled(fixedDelayString = "${app.jobs.expiry.sweep-ms:300000}", initialDelayString = "${app.jobs.expiry.sweep-ms:300000}")
+    public void sweepOverdue() {
+        int found = loadOpenJobs("SELECT id, expires_at FROM job_posts WHERE status = 'OPEN' AND expires_at <= ?",
+                LocalDateTime.now());
+        if (found > 0) log.info("Expiry sweep found {} overdue open job(s)", found);
+    }
+
+    /** A job that has just been committed as OPEN. */
+    public void schedule(JobPost job) {
+        if ("OPEN".equals(job.getStatus()) && job.getExpiresAt() != null) {
+            wheel.schedule(job.getId(), deadlineMillis(job.getExpiresAt()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobClosed(JobPostClosedEvent event) {
+        wheel.cancel(event.jobId());
+    }
+
+    // ── Expiry ────────────────────────────────────────────────────────────────
+
+    /** Expires whatever has come due since the last tick, {@code batchSize} rows per UPDATE. */
+    @Scheduled(fixedDelayString = "${app.jobs.expiry.tick-ms:1000}")
+    public void tick() {
+        List<Long> due = wheel.advance(System.currentTimeMillis());
+        for (int from = 0; from < due.size(); from += batchSize) {
+            expire(due.subList(from, Math.min(from + batchSize, due.size())));
+        }
+    }
+
+    private void expire(List<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        List<JobPost> expired;
+        try {
+            expired = jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(EXPIRE_SQL);
+                ps.setArray(1, con.createArrayOf("bigint", ids.toArray()));
+                ps.setTimestamp(2, Timestamp.valueOf(now));
+                return ps;
+            }, EXPIRED_ROW);
+        } catch (DataAccessException e) {
+            log.warn("Expiring {} job post(s) failed — retrying next tick", ids.size(), e);
+            long retryAt = System.currentTimeMillis();
+            ids.forEach(id -> wheel.schedule(id, retryAt));
+            return;
+        }
+        if (!expired.isEmpty()) log.info("Expired {} job post(s)", expired.size());
+        expired.forEach(job -> eventPublisher.publishEvent(new JobPostClosedEvent(job)));
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    private int loadOpenJobs(String sql, Object... args) {
+        List<Deadline> rows;
+        try {
+            rows = jdbcTemplate.query(sql,
+                    (rs, i) -> new Deadline(rs.getLong("id"), rs.getTimestamp("expires_at").toLocalDateTime()),
+                    args);
+        } catch (DataAccessException e) {
+            log.warn("Loading open job posts for expiry failed", e);
+            return 0;
+        }
+        rows.forEach(row -> wheel.schedule(row.jobId(), deadlineMillis(row.expiresAt())));
+        return rows.size();
+    }
+
+    /** Rounded up to the next millisecond so the wheel never fires before expires_at */
+    static long deadlineMillis(LocalDateTime expiresAt) {
+        long millis = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return expiresAt.getNano() % 1_000_000 == 0 ? millis : millis + 1;
+    }
+}
@@ -0,0 +1,89 @@
+package com.proconnect.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel of job-post expiry deadlines.
+ *
+ * Time is cut into ticks; a deadline lands in bucket {@code tick % size}, so scheduling,
+ * cancelling and finding what is due all cost O(1) per job rather than a scan or a heap.
+ * Deadlines more than one revolution away share a bucket with nearer ones and are skipped
+ * until their own tick comes round.
+ *
+ * Never fires early: a job is due once the clock has reached the start of the tick holding
+ * its deadline, so at most one tick late.
+ */
+public final class JobExpiryWheel {
+
+    private final long tickMillis;
+    private final int mask;
+    /** Per bucket: job id → deadline tick */
+    private final List<Map<Long, Long>> buckets;
+    private final Map<Long, Long> deadlines = new HashMap<>();
+    /** Every tick up to and including this one has been processed */
+    private long currentTick;
+
+    /** @param wheelSize buckets — a power of two */
+    public JobExpiryWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) throw new IllegalArgumentException("tickMillis must be positive");
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.tickMillis  = tickMillis;
+        this.mask        = wheelSize - 1;
+        this.buckets     = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) buckets.add(new HashMap<>());
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /** Adds or moves a job. A deadline already past is due on the next tick. */
+    public synchronized void schedule(long jobId, long deadlineMillis) {
+        cancel(jobId);
+        long tick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick + 1);
+        buckets.get(bucket(tick)).put(jobId, tick);
+        deadlines.put(jobId, tick);
+    }
+
+    /** @return whether the job was scheduled */
+    public synchronized boolean cancel(long jobId) {
+        Long tick = deadlines.remove(jobId);
+        if (tick == null) return false;
+        buckets.get(bucket(tick)).remove(jobId);
+        return true;
+    }
+
+    /** Moves the wheel to {@code nowMillis} and removes and returns every job now due. */
+    public synchronized List<Long> advance(long nowMillis) {
+        long nowTick = Math.floorDiv(nowMillis, tickMillis);
+        List<Long> due = new ArrayList<>();
+        if (nowTick <= currentTick) return due;
+
+        // After a long pause every bucket is visited once, not once per missed tick
+        long steps = Math.min(nowTick - currentTick, buckets.size());
+        for (long t = currentTick + 1; t <= currentTick + steps; t++) {
+            Iterator<Map.Entry<Long, Long>> it = buckets.get(bucket(t)).entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Long, Long> e = it.next();
+                if (e.getValue() <= nowTick) {
+                    due.add(e.getKey());
+                    deadlines.remove(e.getKey());
+                    it.remove();
+                }
+            }
+        }
+        currentTick = nowTick;
+        return due;
+    }
+
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    private int bucket(long tick) {
+        return (int) (tick & mask);
+    }
+}
@@ -0,0 +1,15 @@
+package com.proconnect.service;
+
+import com.proconnect.entity.JobPost;
+
+/**
+ * Published when an OPEN job post is accepted or expires — {@code job.getStatus()} says which.
+ * The open-job registry and the expiry wheel drop it; expiries are announced to nearby
+ * professionals and the customer.
+ */
+public record JobPostClosedEvent(JobPost job) {
+
+    public Long jobId() {
+        return job.getId();
+    }
+}
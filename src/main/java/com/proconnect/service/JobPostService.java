@@ -1,5 +1,7 @@
 package com.proconnect.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.proconnect.dto.JobPostDTO;
 import com.proconnect.entity.JobPost;
 import com.proconnect.entity.Professional;
@@ -8,7 +10,10 @@ import com.proconnect.repository.JobPostRepository;
 import com.proconnect.repository.ProfessionalRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,8 +27,10 @@ import java.util.List;
  *
  * Flow:
  *  1. Customer POSTs a job → saved as OPEN, broadcast to nearby pros after commit
+ *     (SSE push, and any long-poll they have parked is answered)
  *  2. Professional POSTs /accept → optimistic lock ensures only one wins
  *  3. Customer and professional both receive an email
+ *  4. Unclaimed jobs are expired by JobExpiryService; nearby pros and the customer are told
  */
 @Slf4j
 @Service
@@ -31,11 +38,20 @@ import java.util.List;
 public class JobPostService {
 
     private static final int EXPIRY_MINUTES = 30;
+    private static final double POLL_RADIUS_KM = 5.0;
 
     private final JobPostRepository      jobPostRepository;
     private final ProfessionalRepository professionalRepository;
     private final BookingEventService    bookingEventService;
     private final EmailOtpService        emailOtpService;
+    private final LocationUpdateBuffer   locationUpdates;
+    private final OpenJobRegistry        openJobRegistry;
+    private final OpenJobWaiters         openJobWaiters;
+    private final JobExpiryService       jobExpiryService;
+    private final JobClaimService        jobClaimService;
+    private final ClusterEventBus        clusterEventBus;
+    private final ObjectMapper           objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ── Create ────────────────────────────────────────────────────────────────
 
@@ -49,6 +65,8 @@ public class JobPostService {
         JobPost job = persistJobPost(req);   // commits its own transaction
         log.info("Job post committed id={} category={} lat={} lng={}",
                 job.getId(), job.getCategory(), job.getLat(), job.getLng());
+        openJobRegistry.open(job);
+        jobExpiryService.schedule(job);
         int notified = broadcastToNearbyProfessionals(job);
         JobPostDTO dto = JobPostDTO.from(job);
         dto.setBroadcastCount(notified);
@@ -80,52 +98,49 @@ public class JobPostService {
 
     /**
      * Returns all OPEN, non-expired job posts near a professional's location
-     * matching their category. Called every 10 s from the dashboard.
+     * matching their category, newest first. Called every 10 s from the dashboard.
+     *
+     * The professional's category and position come from the DB, overlaid with the latest
+     * location ping still buffered on this instance — not from the search index, which is
+     * per instance and misses moves reported to other nodes. The jobs themselves come from
+     * the open-job registry once it is loaded, and from the DB before that.
      */
-    public List<JobPostDTO> getOpenJobsForProfessional(Long professionalId) {
+    public OpenJobRegistry.Snapshot getOpenJobsForProfessional(Long professionalId) {
         Professional pro = professionalRepository.findById(professionalId)
                 .orElseThrow(() -> ResourceNotFoundException.professionalNotFound(professionalId));
 
-        if (pro.getLatitude() == null || pro.getLongitude() == null || pro.getCategoryName() == null) {
-            return List.of();
+        LocationUpdateBuffer.Position position = locationUpdates.latest(professionalId)
+                .orElseGet(() -> new LocationUpdateBuffer.Position(pro.getLatitude(), pro.getLongitude()));
+        if (position.lat() == null || position.lng() == null || pro.getCategoryName() == null) {
+            return OpenJobRegistry.Snapshot.of(List.of());
         }
-        return jobPostRepository.pollOpenJobsNearProfessional(
-                        pro.getLatitude().doubleValue(),
-                        pro.getLongitude().doubleValue(),
-                        5.0,
+        if (openJobRegistry.isReady()) {
+            return openJobRegistry.openJobsNear(position.lat().doubleValue(), position.lng().doubleValue(),
+                    POLL_RADIUS_KM, pro.getCategoryName());
+        }
+        List<JobPostDTO> jobs = jobPostRepository.pollOpenJobsNearProfessional(
+                        position.lat().doubleValue(),
+                        position.lng().doubleValue(),
+                        POLL_RADIUS_KM,
                         pro.getCategoryName())
                 .stream()
                 .map(JobPostDTO::from)
                 .toList();
+        return OpenJobRegistry.Snapshot.of(jobs);
     }
 
     // ── Accept (race-condition safe) ──────────────────────────────────────────
 
     /**
-     * Professional accepts a job.
-     * @throws OptimisticLockingFailureException if another pro claimed it concurrently
+     * Professional accepts a job — one conditional UPDATE, see {@link JobClaimService}.
+     * @throws OptimisticLockingFailureException if another pro claimed it first
      * @throws IllegalStateException             if the job is no longer OPEN or has expired
      */
-    @Transactional
     public JobPostDTO acceptJob(Long jobId, Long professionalId) {
-        JobPost job = jobPostRepository.findById(jobId)
-                .orElseThrow(() -> new ResourceNotFoundException("Job not found: " + jobId));
-
-        if (!"OPEN".equals(job.getStatus())) {
-            throw new IllegalStateException("Job is no longer available (status=" + job.getStatus() + ")");
-        }
-        if (job.getExpiresAt().isBefore(LocalDateTime.now())) {
-            job.setStatus("EXPIRED");
-            jobPostRepository.save(job);
-            throw new IllegalStateException("Job has expired");
-        }
-
-        Professional pro = professionalRepository.findById(professionalId)
-                .orElseThrow(() -> ResourceNotFoundException.professionalNotFound(professionalId));
-
-        job.setStatus("ACCEPTED");
-        job.setAcceptedBy(pro);
-        jobPostRepository.save(job);   // @Version bumps here; concurrent save → OptimisticLockingFailureException
+        JobPost job = jobClaimService.claim(jobId, professionalId);
+        Professional pro = job.getAcceptedBy();
+        eventPublisher.publishEvent(new JobPostClosedEvent(job));   // registry and expiry wheel drop it
+        clusterEventBus.publish(ClusterEvent.JOB_ACCEPTED, List.of(), JobPostDTO.from(job));   // … on every instance
 
         String proName = pro.getDisplayName() != null ? pro.getDisplayName() : pro.getFullName();
         log.info("Job post {} accepted by professional {} ({})", jobId, professionalId, proName);
@@ -143,15 +158,83 @@ public class JobPostService {
         return JobPostDTO.from(job);
     }
 
+    // ── Expiry ────────────────────────────────────────────────────────────────
+
+    /**
+     * Announces a job that JobExpiryService expired — SSE, parked long-polls, customer email.
+     * Async: expiries are published from the shared scheduler thread, which must not wait on SMTP.
+     */
+    @Async
+    @EventListener
+    public void onJobClosed(JobPostClosedEvent event) {
+        JobPost job = event.job();
+        if (!"EXPIRED".equals(job.getStatus())) return;
+
+        if (job.getLat() != null && job.getLng() != null) {
+            List<Long> nearby = nearbyAvailableProfessionals(job);
+            bookingEventService.pushJobExpired(nearby, JobPostDTO.from(job));
+            nearby.forEach(openJobWaiters::wake);
+        }
+        if (job.getCustomerEmail() != null && !job.getCustomerEmail().isBlank()) {
+            emailOtpService.sendJobExpiredToCustomer(job.getCustomerEmail(), job.getCustomerName(), job.getCategory());
+        }
+    }
+
+    // ── Other instances ───────────────────────────────────────────────────────
+
+    /**
+     * Keeps this instance's open-job registry and parked long-polls in step with jobs posted,
+     * accepted or expired on other instances. SSE delivery is BookingEventService's.
+     */
+    @EventListener
+    public void onClusterEvent(ClusterEvent event) {
+        if (!event.remote()) return;
+        switch (event.type()) {
+            case ClusterEvent.NEW_JOB -> {
+                try {
+                    openJobRegistry.open(objectMapper.treeToValue(event.data(), JobPostDTO.class));
+                } catch (JsonProcessingException e) {
+                    log.warn("Ignoring unreadable new-job cluster event", e);
+                    return;
+                }
+            }
+            case ClusterEvent.JOB_EXPIRED, ClusterEvent.JOB_ACCEPTED -> openJobRegistry.close(event.data().path("id").asLong());
+            case ClusterEvent.REFETCH -> {
+                // The job itself was too large to NOTIFY — read it back
+                String original = event.data().path("type").asText();
+                long jobId = event.data().path("id").asLong();
+                if (jobId == 0 || !original.startsWith("job-")) return;
+                jobPostRepository.findById(jobId).ifPresentOrElse(
+                        job -> { if ("OPEN".equals(job.getStatus())) openJobRegistry.open(job); else openJobRegistry.close(jobId); },
+                        () -> openJobRegistry.close(jobId));
+            }
+            default -> { return; }
+        }
+        event.professionalIds().forEach(openJobWaiters::wake);
+    }
+
     // ── SSE broadcast ─────────────────────────────────────────────────────────
 
     private int broadcastToNearbyProfessionals(JobPost job) {
         if (job.getLat() == null || job.getLng() == null) return 0;
-        List<Professional> nearby = professionalRepository.findNearbyAvailableByCategory(
-                job.getLat(), job.getLng(), job.getRadiusKm(), job.getCategory());
+        List<Long> nearby = nearbyAvailableProfessionals(job);
         log.info("Broadcasting job {} to {} nearby professional(s)", job.getId(), nearby.size());
         JobPostDTO dto = JobPostDTO.from(job);
-        nearby.forEach(pro -> bookingEventService.pushNewJob(pro.getId(), dto));
+        bookingEventService.pushNewJob(nearby, dto);
+        nearby.forEach(openJobWaiters::wake);
         return nearby.size();
     }
+
+    /**
+     * Available professionals of the job's category in range. Read from the DB, not the search
+     * index: the index is per instance and misses availability changes and moves made on other
+     * nodes. Positions are at most one location flush interval old.
+     */
+    private List<Long> nearbyAvailableProfessionals(JobPost job) {
+        if (job.getCategory() == null) return List.of();
+        return professionalRepository.findNearbyAvailableByCategory(
+                job.getLat(), job.getLng(), job.getRadiusKm(), job.getCategory()).stream()
+                .map(Professional::getId)
+                .toList();
+    }
 }
@@ -0,0 +1,155 @@
+package com.proconnect.service;
+
+import com.proconnect.search.ProfessionalSearchIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for live location pings (PATCH /api/professionals/me/location).
+ *
+ * Every logged-in dashboard reports its position every few seconds. Each ping only replaces
+ * the professional's entry here and moves them on the in-memory geo grid; a scheduled flush
+ * then writes every changed position in one UPDATE. A professional who pinged ten times
+ * between flushes costs one row write, and one who hasn't moved costs none.
+ *
+ * Geo reads that need the live position use {@link #latest} (or the search index, which is
+ * moved on every ping). DB-backed radius queries see a position up to one flush interval late.
+ * Pending positions are flushed on shutdown; a crash loses at most one interval of pings,
+ * which the next ping replaces anyway.
+ */
+@Slf4j
+@Service
+public class LocationUpdateBuffer {
+
+    /**
+     * Only rows whose position actually changed are rewritten, and only those get a new
+     * updated_at — the same rows the old per-ping entity save (@UpdateTimestamp) touched
+     */
+    private static final String UPDATE_SQL = """
+        UPDATE professionals p
+        SET    latitude = v.lat, longitude = v.lng, updated_at = CURRENT_TIMESTAMP
+        FROM   unnest(?, ?, ?) AS v(id, lat, lng)
+        WHERE  p.id = v.id
+          AND  (p.latitude, p.longitude) IS DISTINCT FROM (v.lat, v.lng)
+        """;
+
+    private static final String UPDATE_DOCS_SQL = """
+        UPDATE professional_search_docs d
+        SET    latitude = v.lat, longitude = v.lng, updated_at = CURRENT_TIMESTAMP
+        FROM   unnest(?, ?, ?) AS v(id, lat, lng)
+        WHERE  d.id = v.id
+          AND  (d.latitude, d.longitude) IS DISTINCT FROM (v.lat, v.lng)
+        """;
+
+    /** Column scale of professionals.latitude / longitude — DECIMAL(9,6) */
+    private static final int COORDINATE_SCALE = 6;
+
+    public record Position(BigDecimal lat, BigDecimal lng) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final ProfessionalSearchIndex searchIndex;
+    private final boolean readModelSync;
+
+    /** Latest unflushed position per professional */
+    private final Map<Long, Position> pending = new ConcurrentHashMap<>();
+
+    public LocationUpdateBuffer(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ProfessionalSearchIndex searchIndex,
+                                @Value("${app.search.read-model.sync:false}") boolean readModelSync) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.searchIndex = searchIndex;
+        this.readModelSync = readModelSync;
+    }
+
+    /** Records a ping — replaces any unflushed position for the same professional. */
+    public void record(Long professionalId, BigDecimal lat, BigDecimal lng) {
+        Position position = new Position(lat.setScale(COORDINATE_SCALE, RoundingMode.HALF_UP),
+                                         lng.setScale(COORDINATE_SCALE, RoundingMode.HALF_UP));
+        pending.put(professionalId, position);
+        searchIndex.relocate(professionalId, position.lat().doubleValue(), position.lng().doubleValue());
+    }
+
+    /** The professional's position if a newer one than the DB's is waiting to be flushed. */
+    public Optional<Position> latest(Long professionalId) {
+        return Optional.ofNullable(pending.get(professionalId));
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    // ── Flush ─────────────────────────────────────────────────────────────────
+
+    /**
+     * Writes every pending position in one statement (two with the search read model synced).
+     * Pings that arrive mid-flush stay pending for the next run; on failure the whole batch does.
+     */
+    @Scheduled(fixedDelayString = "${app.location.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+        List<Map.Entry<Long, Position>> batch = new ArrayList<>(pending.size());
+        pending.forEach((id, position) -> batch.add(Map.entry(id, position)));
+
+        int updated;
+        try {
+            updated = tx.execute(status -> {
+                int rows = jdbcTemplate.update(con -> bind(con, UPDATE_SQL, batch));
+                if (readModelSync) jdbcTemplate.update(con -> bind(con, UPDATE_DOCS_SQL, batch));
+                return rows;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Location flush failed for {} professional(s) — retrying next run", batch.size(), e);
+            return;
+        }
+
+        for (Map.Entry<Long, Position> e : batch) {
+            pending.remove(e.getKey(), e.getValue());
+            // A reload from the DB may have landed between the ping and this flush
+            searchIndex.relocate(e.getKey(), e.getValue().lat().doubleValue(), e.getValue().lng().doubleValue());
+        }
+        log.debug("Flushed {} location ping(s), {} row(s) changed", batch.size(), updated);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static PreparedStatement bind(Connection con, String sql, List<Map.Entry<Long, Position>> batch)
+            throws SQLException {
+        Long[]       ids  = new Long[batch.size()];
+        BigDecimal[] lats = new BigDecimal[batch.size()];
+        BigDecimal[] lngs = new BigDecimal[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            ids[i]  = batch.get(i).getKey();
+            lats[i] = batch.get(i).getValue().lat();
+            lngs[i] = batch.get(i).getValue().lng();
+        }
+        PreparedStatement ps = con.prepareStatement(sql);
+        ps.setArray(1, con.createArrayOf("bigint", ids));
+        ps.setArray(2, con.createArrayOf("numeric", lats));
+        ps.setArray(3, con.createArrayOf("numeric", lngs));
+        return ps;
+    }
+}
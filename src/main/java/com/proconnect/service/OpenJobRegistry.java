@@ -0,0 +1,225 @@
+package com.proconnect.service;
+
+import com.proconnect.dto.JobPostDTO;
+import com.proconnect.entity.JobPost;
+import com.proconnect.repository.JobPostRepository;
+import com.proconnect.search.GeoGrid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory set of OPEN job posts, on a {@link GeoGrid} partitioned by category, answering the
+ * dashboard poll (GET /api/jobs/open) without touching job_posts.
+ *
+ * Kept current by JobPostService — jobs are added once their insert commits and dropped when
+ * accepted or expired ({@link JobPostClosedEvent}); jobs past expiresAt are also skipped on read.
+ * A periodic resync from the DB picks up jobs written by other instances and anything missed.
+ * Until the first load finishes, polls go to the DB.
+ *
+ * Every answer carries a token fingerprinting the returned job ids, so a client that sends
+ * back the token it last saw can be told "unchanged" (304) without a body.
+ */
+@Slf4j
+@Service
+public class OpenJobRegistry {
+
+    private final JobPostRepository jobPostRepository;
+    private final boolean enabled;
+
+    // ── guarded by lock ──
+    private final Map<Long, JobPostDTO> jobs = new HashMap<>();
+    private final GeoGrid grid = new GeoGrid();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Changes made while a resync is reading the DB — replayed over its snapshot */
+    private Set<Long> openedDuringResync;
+    private Set<Long> closedDuringResync;
+
+    private volatile boolean ready;
+
+    /** Open jobs for one poll, newest first, and the token identifying that exact set */
+    public record Snapshot(List<JobPostDTO> jobs, String token) {
+        public static Snapshot of(List<JobPostDTO> jobs) {
+            return new Snapshot(jobs, OpenJobRegistry.token(jobs));
+        }
+    }
+
+    public OpenJobRegistry(JobPostRepository jobPostRepository,
+                           @Value("${app.jobs.registry.enabled:true}") boolean enabled) {
+        this.jobPostRepository = jobPostRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ── Maintenance ───────────────────────────────────────────────────────────
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            log.info("Open-job registry disabled (app.jobs.registry.enabled=false) — polls read the DB");
+            return;
+        }
+        if (!load()) {
+            log.warn("Open-job registry not loaded — polls read the DB until a resync succeeds");
+        }
+    }
+
+    /** Replaces the registry with the DB's open jobs, keeping changes that raced with the read. */
+    @Scheduled(fixedDelayString = "${app.jobs.registry.resync-ms:60000}", initialDelayString = "${app.jobs.registry.resync-ms:60000}")
+    public void resync() {
+        load();
+    }
+
+    /**
+     * The registry becomes ready on the first successful load — until then polls go to the DB,
+     * so a failed read never answers "no open jobs" from an empty registry.
+     *
+     * @return whether the DB read succeeded
+     */
+    boolean load() {
+        if (!enabled) return false;
+        lock.writeLock().lock();
+        try {
+            openedDuringResync = new HashSet<>();
+            closedDuringResync = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<JobPost> open;
+        try {
+            open = jobPostRepository.findByStatusAndExpiresAtAfter("OPEN", LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("Open-job resync failed — keeping the current registry", e);
+            lock.writeLock().lock();
+            try {
+                openedDuringResync = null;
+                closedDuringResync = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Map<Long, JobPostDTO> kept = new HashMap<>();
+            for (Long id : openedDuringResync) kept.put(id, jobs.get(id));
+            for (Long id : Set.copyOf(jobs.keySet())) remove(id);
+            for (JobPost job : open) {
+                if (!closedDuringResync.contains(job.getId())) add(JobPostDTO.from(job));
+            }
+            kept.values().forEach(dto -> { if (dto != null) add(dto); });
+            openedDuringResync = null;
+            closedDuringResync = null;
+            log.debug("Open-job registry resynced: {} open jobs", jobs.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+        return true;
+    }
+
+    /** A job that has just been committed as OPEN. */
+    public void open(JobPost job) {
+        open(JobPostDTO.from(job));
+    }
+
+    /** A job committed as OPEN — possibly on another instance. */
+    public void open(JobPostDTO job) {
+        if (!enabled || !"OPEN".equals(job.getStatus())) return;
+        lock.writeLock().lock();
+        try {
+            add(job);
+            if (openedDuringResync != null) openedDuringResync.add(job.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Runs before other listeners, so long-polls woken for an expiry already see the job gone */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobClosed(JobPostClosedEvent event) {
+        close(event.jobId());
+    }
+
+    /** A job that was accepted or expired — possibly on another instance. */
+    public void close(Long jobId) {
+        if (!enabled) return;
+        lock.writeLock().lock();
+        try {
+            remove(jobId);
+            if (openedDuringResync != null) openedDuringResync.remove(jobId);
+            if (closedDuringResync != null) closedDuringResync.add(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ── Lookup ────────────────────────────────────────────────────────────────
+
+    /** Unexpired open jobs of {@code category} within {@code radiusKm} of the point, newest first. */
+    public Snapshot openJobsNear(double lat, double lng, double radiusKm, String category) {
+        LocalDateTime now = LocalDateTime.now();
+        List<JobPostDTO> out = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (GeoGrid.Neighbour n : grid.within(lat, lng, radiusKm, category, true)) {
+                JobPostDTO job = jobs.get(n.id());
+                if (job != null && job.getExpiresAt().isAfter(now)) out.add(job);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        out.sort(NEWEST_FIRST);
+        return Snapshot.of(out);
+    }
+
+    public static final Comparator<JobPostDTO> NEWEST_FIRST = Comparator
+        .comparing(JobPostDTO::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparing(JobPostDTO::getId, Comparator.reverseOrder());
+
+    /**
+     * Fingerprint of the job ids in a poll answer. Open jobs never change while open — they only
+     * appear and disappear — so the same ids mean the same response.
+     */
+    public static String token(List<JobPostDTO> jobs) {
+        long[] ids = jobs.stream().mapToLong(JobPostDTO::getId).sorted().toArray();
+        long h = 1125899906842597L;
+        for (long id : ids) h = 31 * h + id;
+        return Long.toString(ids.length, 36) + "-" + Long.toUnsignedString(h, 36);
+    }
+
+    // ── internals (caller holds the write lock) ───────────────────────────────
+
+    private void add(JobPostDTO job) {
+        if (job.getLat() == null || job.getLng() == null) return;
+        jobs.put(job.getId(), job);
+        grid.put(job.getId(), job.getLat(), job.getLng(), job.getCategory(), true);
+    }
+
+    private void remove(Long id) {
+        jobs.remove(id);
+        grid.remove(id);
+    }
+}
@@ -0,0 +1,64 @@
+package com.proconnect.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parked long-poll requests for GET /api/jobs/open?wait=…, one set per professional.
+ *
+ * A companion to the SSE stream in {@link BookingEventService} for clients behind proxies that
+ * cut streams. A parked request holds no servlet thread: it is a {@link DeferredResult}
+ * plus a wake-up callback. JobPostService wakes every professional it broadcasts a new job
+ * to, and the callback then answers the request. Requests that nobody wakes are answered by
+ * their own timeout.
+ */
+@Slf4j
+@Service
+public class OpenJobWaiters {
+
+    // professionalId -> wake-up callbacks of their parked requests
+    private final Map<Long, Set<Runnable>> waiters = new ConcurrentHashMap<>();
+    private final Duration maxWait;
+
+    public OpenJobWaiters(@Value("${app.jobs.long-poll.max-wait:30s}") Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    /** The requested wait, capped at app.jobs.long-poll.max-wait. */
+    public Duration clamp(Duration requested) {
+        return requested.compareTo(maxWait) > 0 ? maxWait : requested;
+    }
+
+    /** Registers {@code onWake} until {@code result} completes (answered, timed out or dropped). */
+    public void park(Long professionalId, DeferredResult<?> result, Runnable onWake) {
+        waiters.computeIfAbsent(professionalId, k -> ConcurrentHashMap.newKeySet()).add(onWake);
+        result.onCompletion(() -> waiters.computeIfPresent(professionalId, (k, set) -> {
+            set.remove(onWake);
+            return set.isEmpty() ? null : set;
+        }));
+    }
+
+    /** Runs the callbacks of every request the professional has parked. */
+    public void wake(Long professionalId) {
+        Set<Runnable> set = waiters.get(professionalId);
+        if (set == null) return;
+        for (Runnable onWake : set) {
+            try {
+                onWake.run();
+            } catch (RuntimeException e) {
+                log.warn("Long-poll wake-up failed for professional {}", professionalId, e);
+            }
+        }
+    }
+
+    public int parkedCount() {
+        return waiters.values().stream().mapToInt(Set::size).sum();
+    }
+}
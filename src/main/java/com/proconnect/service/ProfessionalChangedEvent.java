@@ -0,0 +1,16 @@
+package com.proconnect.service;
+
+/**
+ * Published whenever a professional profile is created, updated or deleted.
+ * In-memory search structures listen for it after commit and reload the profile.
+ */
+public record ProfessionalChangedEvent(Long professionalId, boolean deleted) {
+
+    public static ProfessionalChangedEvent updated(Long professionalId) {
+        return new ProfessionalChangedEvent(professionalId, false);
+    }
+
+    public static ProfessionalChangedEvent deleted(Long professionalId) {
+        return new ProfessionalChangedEvent(professionalId, true);
+    }
+}
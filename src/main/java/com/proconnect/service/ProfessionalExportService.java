@@ -0,0 +1,212 @@
+package com.proconnect.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proconnect.exception.RateLimitException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bulk catalogue export as newline-delimited JSON — one professional per line.
+ *
+ * Rows come off a server-side cursor (bounded fetch size inside a read-only transaction,
+ * which is what makes the Postgres driver stream instead of buffering the whole result)
+ * and are written straight to the response, so memory stays flat however big the table is.
+ * Contact details and live coordinates are not exported.
+ *
+ * With {@code updatedSince} only professionals changed after that instant are written,
+ * oldest change first, so a client can resume from the last {@code updatedAt} it saw.
+ * Deletions don't show up in incremental pulls — mirror with a periodic full export.
+ */
+@Slf4j
+@Service
+public class ProfessionalExportService {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    private static final int FETCH_SIZE  = 500;
+    private static final int FLUSH_EVERY = 200;
+
+    static final String SLOT_INTERCEPTOR = ProfessionalExportService.class.getName() + ".slot";
+
+    private static final String SELECT = """
+        SELECT p.id, p.slug, p.first_name, p.last_name, p.display_name, p.headline, p.bio,
+               p.avatar_url, p.cover_image_url, p.city, p.state, p.country, p.remote,
+               p.is_verified, p.is_available, p.rating, p.review_count,
+               p.hourly_rate_min, p.hourly_rate_max, p.currency, c.name AS category_name,
+               ARRAY(SELECT s.name FROM professional_subcategories ps
+                     JOIN subcategories s ON s.id = ps.subcategory_id
+                     WHERE ps.professional_id = p.id ORDER BY s.name)              AS subcategories,
+               ARRAY(SELECT a.area_name FROM professional_service_areas a
+                     WHERE a.professional_id = p.id ORDER BY a.area_name)          AS service_areas,
+               ARRAY(SELECT sv.title FROM services sv
+                     WHERE sv.professional_id = p.id ORDER BY sv.id)               AS services,
+               p.updated_at
+        FROM professionals p
+        LEFT JOIN categories c ON c.id = p.category_id
+        """;
+
+    private static final String FULL_SQL        = SELECT + "ORDER BY p.id";
+    private static final String INCREMENTAL_SQL = SELECT + "WHERE p.updated_at > ? ORDER BY p.updated_at, p.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readTx;
+    private final ObjectMapper objectMapper;
+    private final Semaphore slots;
+
+    public ProfessionalExportService(DataSource dataSource,
+                                     PlatformTransactionManager transactionManager,
+                                     ObjectMapper objectMapper,
+                                     @Value("${app.export.max-concurrent:2}") int maxConcurrent) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readTx = new TransactionTemplate(transactionManager);
+        this.readTx.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.slots = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    /**
+     * Reserves an export slot and returns the body that streams it.
+     * Each running export holds one DB connection for its whole duration, hence the cap.
+     *
+     * The slot is freed when the body finishes, and also when the async request ends without
+     * running it (client gone, dispatch timed out, error) — whichever comes first, exactly once.
+     *
+     * @param asyncManager the current request's — see {@code WebAsyncUtils.getAsyncManager}
+     * @throws RateLimitException when the maximum number of exports is already running
+     */
+    public StreamingResponseBody open(LocalDateTime updatedSince, WebAsyncManager asyncManager) {
+        if (!slots.tryAcquire()) {
+            throw new RateLimitException("Too many exports in progress. Please retry shortly.");
+        }
+        AtomicBoolean held = new AtomicBoolean(true);
+        Runnable release = () -> {
+            if (held.compareAndSet(true, false)) slots.release();
+        };
+        asyncManager.registerCallableInterceptor(SLOT_INTERCEPTOR, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                release.run();
+            }
+        });
+        return out -> {
+            try {
+                long started = System.currentTimeMillis();
+                int written = export(updatedSince, out);
+                log.info("Exported {} professionals (updatedSince={}) in {} ms",
+                    written, updatedSince, System.currentTimeMillis() - started);
+            } finally {
+                release.run();
+            }
+        };
+    }
+
+    /** Writes the export to {@code out}. Returns the number of professionals written. */
+    public int export(LocalDateTime updatedSince, OutputStream out) throws IOException {
+        JsonGenerator json = objectMapper.getFactory().createGenerator(out);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        json.setRootValueSeparator(null);   // each row ends its own line
+        int[] written = {0};
+        try {
+            readTx.executeWithoutResult(status -> {
+                Object[] args = updatedSince != null ? new Object[]{Timestamp.valueOf(updatedSince)} : new Object[0];
+                jdbcTemplate.query(updatedSince != null ? INCREMENTAL_SQL : FULL_SQL, rs -> {
+                    try {
+                        writeRow(json, rs);
+                        if (++written[0] % FLUSH_EVERY == 0) json.flush();
+                    } catch (IOException e) {
+                        // Client went away — abandon the cursor rather than reading on
+                        throw new UncheckedIOException(e);
+                    }
+                }, args);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        json.flush();
+        return written[0];
+    }
+
+    // ── Row mapping ───────────────────────────────────────────────────────────
+
+    private static void writeRow(JsonGenerator json, ResultSet rs) throws IOException, SQLException {
+        json.writeStartObject();
+        json.writeNumberField("id", rs.getLong("id"));
+        writeString(json, "slug",          rs.getString("slug"));
+        writeString(json, "firstName",     rs.getString("first_name"));
+        writeString(json, "lastName",      rs.getString("last_name"));
+        writeString(json, "displayName",   rs.getString("display_name"));
+        writeString(json, "headline",      rs.getString("headline"));
+        writeString(json, "bio",           rs.getString("bio"));
+        writeString(json, "avatarUrl",     rs.getString("avatar_url"));
+        writeString(json, "coverImageUrl", rs.getString("cover_image_url"));
+
+        json.writeObjectFieldStart("location");
+        writeString(json, "city",    rs.getString("city"));
+        writeString(json, "state",   rs.getString("state"));
+        writeString(json, "country", rs.getString("country"));
+        json.writeBooleanField("remote", rs.getBoolean("remote"));
+        json.writeEndObject();
+
+        json.writeBooleanField("isVerified",  rs.getBoolean("is_verified"));
+        json.writeBooleanField("isAvailable", rs.getBoolean("is_available"));
+        writeNumber(json, "rating", rs.getBigDecimal("rating"));
+        json.writeNumberField("reviewCount", rs.getInt("review_count"));
+        writeNumber(json, "hourlyRateMin", rs.getBigDecimal("hourly_rate_min"));
+        writeNumber(json, "hourlyRateMax", rs.getBigDecimal("hourly_rate_max"));
+        writeString(json, "currency", rs.getString("currency"));
+        writeString(json, "category", rs.getString("category_name"));
+        writeArray(json, "subcategories", rs.getArray("subcategories"));
+        writeArray(json, "serviceAreas",  rs.getArray("service_areas"));
+        writeArray(json, "services",      rs.getArray("services"));
+
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        writeString(json, "updatedAt", updatedAt != null ? updatedAt.toLocalDateTime().toString() : null);
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private static void writeString(JsonGenerator json, String field, String value) throws IOException {
+        if (value != null) json.writeStringField(field, value);
+        else json.writeNullField(field);
+    }
+
+    private static void writeNumber(JsonGenerator json, String field, BigDecimal value) throws IOException {
+        if (value != null) json.writeNumberField(field, value);
+        else json.writeNullField(field);
+    }
+
+    private static void writeArray(JsonGenerator json, String field, Array array) throws IOException, SQLException {
+        json.writeArrayFieldStart(field);
+        if (array != null) {
+            for (Object value : (Object[]) array.getArray()) {
+                if (value != null) json.writeString(value.toString());
+            }
+            array.free();
+        }
+        json.writeEndArray();
+    }
+}
@@ -1,18 +1,38 @@
 package com.proconnect.service;
 
+import com.proconnect.dto.ProfessionalCardDTO;
 import com.proconnect.dto.ProfessionalDTO;
 import com.proconnect.dto.ProfessionalSearchCriteria;
 import com.proconnect.dto.SearchResultDTO;
+import com.proconnect.dto.SuggestionDTO;
 import com.proconnect.entity.Professional;
 import com.proconnect.mapper.ProfessionalMapper;
 import com.proconnect.repository.ProfessionalRepository;
+import com.proconnect.repository.ProfessionalSearchRepository;
+import com.proconnect.search.LocationGazetteer;
+import com.proconnect.search.ProfessionalSearchIndex;
+import com.proconnect.search.SearchCountMode;
+import com.proconnect.search.SearchCursor;
+import com.proconnect.search.SearchExecutor;
+import com.proconnect.search.SearchFacets;
+import com.proconnect.search.SearchFilters;
+import com.proconnect.search.SearchResultCache;
+import com.proconnect.search.SearchSort;
+import com.proconnect.search.SingleFlight;
+import com.proconnect.search.SuggestionIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -24,6 +44,43 @@ public class ProfessionalSearchService {
 
     private final ProfessionalRepository professionalRepository;
     private final ProfessionalMapper professionalMapper;
+    private final ProfessionalSearchIndex searchIndex;
+    private final SearchFacets searchFacets;
+    private final LocationGazetteer locationGazetteer;
+    private final SearchResultCache resultCache;
+    private final SuggestionIndex suggestionIndex;
+    private final SearchExecutor searchExecutor;
+
+    /** db (default) | memory — see application.properties */
+    @Value("${app.search.backend:db}")
+    private String searchBackend;
+
+    /** separate | inline (default) | capped — see {@link SearchCountMode} */
+    @Value("${app.search.count-mode:inline}")
+    private String countMode;
+
+    @Value("${app.search.count-cap:1000}")
+    private int countCap;
+
+    /** tables (default) | docs — see application.properties */
+    @Value("${app.search.read-model:tables}")
+    private String readModel;
+
+    /** Identical concurrent searches share one execution */
+    @Value("${app.search.coalesce.enabled:true}")
+    private boolean coalesce;
+
+    private final SingleFlight<SearchResultCache.Key, SearchResultDTO> inFlight = new SingleFlight<>();
+
+    /** sequential (default) | parallel — count and facet reads alongside the page query, see {@link SearchExecutor} */
+    @Value("${app.search.execution:sequential}")
+    private String execution;
+
+    @Value("${app.search.parallel.count-timeout-ms:2000}")
+    private long countTimeoutMs;
+
+    @Value("${app.search.parallel.facet-timeout-ms:500}")
+    private long facetTimeoutMs;
 
     /** Splits "plumber in indiranagar" → keyword + location hint */
     private static final Pattern LOCATION_SPLIT =
@@ -38,17 +95,63 @@ public class ProfessionalSearchService {
         "poona",      "Pune"
     );
 
+    /**
+     * A computed response plus the resolved filters it was computed for (used for cache invalidation).
+     * Not complete when a parallel branch was given up on — such responses are not cached.
+     */
+    private record Computed(SearchFilters filters, SearchResultDTO result, boolean complete) {}
+
+    /**
+     * Cached searches need the index running: its change notifications are what keep
+     * the cache honest. Cache misses for the same key that arrive together are coalesced
+     * into one execution. Keys hold the exact coordinates and the query and city as sent,
+     * so a shared answer is the one the caller would have computed.
+     */
     public SearchResultDTO search(ProfessionalSearchCriteria criteria) {
+        boolean cacheable = resultCache.isEnabled() && searchIndex.isReady();
+        if (!cacheable && !coalesce) {
+            return execute(criteria).result();
+        }
+        SearchResultCache.Key key = SearchResultCache.Key.of(criteria);
+        if (cacheable) {
+            SearchResultDTO cached = resultCache.get(key);
+            if (cached != null) return cached;
+        }
+        if (!coalesce) return executeAndCache(key, criteria, cacheable);
+        return inFlight.run(key, () -> executeAndCache(key, criteria, cacheable));
+    }
+
+    private SearchResultDTO executeAndCache(SearchResultCache.Key key, ProfessionalSearchCriteria criteria,
+                                            boolean cacheable) {
+        long generation = resultCache.generation();
+        Computed computed = execute(criteria);
+        if (cacheable && computed.complete()) {
+            resultCache.put(key, computed.filters(), computed.result(), generation);
+        }
+        return computed.result();
+    }
+
+    /**
+     * Typeahead completions — served from the in-memory {@link SuggestionIndex}, never the search query.
+     * Professional names appear once the index has loaded; catalog names are there from startup.
+     */
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        return suggestionIndex.suggest(prefix, limit).stream()
+            .map(SuggestionDTO::from)
+            .toList();
+    }
+
+    private Computed execute(ProfessionalSearchCriteria criteria) {
         int page     = Math.max(0, criteria.getPage());
         int pageSize = criteria.getPageSize() > 0 ? criteria.getPageSize() : 10;
         int offset   = page * pageSize;
 
-        // ── Subcategory names → pg array literal  e.g. '{plumbing,tiling}' ──
-        String subcategoryNames = null;
+        // ── Subcategory names, lower-cased for case-insensitive matching ──
+        List<String> subcategoryNames = null;
         if (criteria.hasSubcategoriesFilter()) {
-            subcategoryNames = "{" + criteria.effectiveSubcategories().stream()
-                .map(n -> n.replace("'", "''").toLowerCase())
-                .collect(Collectors.joining(",")) + "}";
+            subcategoryNames = criteria.effectiveSubcategories().stream()
+                .map(String::toLowerCase)
+                .toList();
         }
 
         // ── Standard text / city / area path (lat/lng applied as additive HAVING filter) ──
@@ -69,60 +172,285 @@ public class ProfessionalSearchService {
         // ── Parse "plumber in indiranagar" style free-text queries ───────────
         if (query != null && area == null) {
             Matcher m = LOCATION_SPLIT.matcher(query);
+            LocationGazetteer.Split split = null;
             if (m.matches()) {
                 // "java in indiranagar" → keyword="java", area="indiranagar"
                 String keyword = m.group(1).trim();
                 String hint    = m.group(2).trim();
-                List<String> matched = professionalRepository.findMatchingAreaName(hint);
-                if (!matched.isEmpty()) {
-                    log.info("Natural query '{}' → keyword='{}', area='{}'", query, keyword, matched.get(0));
-                    area  = matched.get(0);
-                } else {
+                split = new LocationGazetteer.Split(keyword, resolveLocation(hint).orElse(null));
+                if (split.location() == null) {
                     log.info("Natural query '{}' → keyword='{}', area hint '{}' not found", query, keyword, hint);
                 }
-                query = keyword;
             } else {
                 // Fallback: "java indiranagar" (no connector word) —
                 // try stripping the last 1..N words and checking if they match a known area.
-                String[] words = query.split("\\s+");
-                for (int i = words.length - 1; i >= 1; i--) {
-                    String trailingHint = String.join(" ", java.util.Arrays.copyOfRange(words, i, words.length));
-                    List<String> matched = professionalRepository.findMatchingAreaName(trailingHint);
-                    if (!matched.isEmpty()) {
-                        String remainingKeyword = String.join(" ", java.util.Arrays.copyOfRange(words, 0, i));
-                        log.info("Fallback split query '{}' → keyword='{}', area='{}'", query, remainingKeyword, matched.get(0));
-                        area  = matched.get(0);
-                        query = remainingKeyword.isBlank() ? null : remainingKeyword;
-                        break;
-                    }
+                split = splitTrailingLocation(query).orElse(null);
+            }
+            if (split != null) {
+                LocationGazetteer.Match location = split.location();
+                if (location != null && location.kind() == LocationGazetteer.Kind.CITY) {
+                    if (city == null) city = location.name();
+                } else if (location != null) {
+                    area = location.name();
                 }
+                if (location != null) {
+                    log.info("Natural query '{}' → keyword='{}', {}='{}'",
+                        query, split.keyword(), location.kind().name().toLowerCase(), location.name());
+                }
+                query = split.keyword();
             }
         }
 
-        List<Professional> results = professionalRepository.searchProfessionals(
+        SearchFilters filters = new SearchFilters(
             query, city, state, country, criteria.getRemote(), criteria.getAvailable(),
-            category, area, subcategoryNames, lat, lng, radiusKm, pageSize, offset);
+            category, area, subcategoryNames, lat, lng, radiusKm, SearchSort.from(criteria.getSort()));
 
-        long total = professionalRepository.countSearchProfessionals(
-            query, city, state, country, criteria.getRemote(), criteria.getAvailable(),
-            category, area, subcategoryNames, lat, lng, radiusKm);
+        // Phase 1 yields the page's ids; the view decides how they are loaded (phase 2)
+        List<Long> pageIds;
+        List<Professional> loaded = null;
+        // Computed by the ranking itself (index or phase-1 SQL) — empty without a geo filter
+        Map<Long, Double> distances = new HashMap<>();
+        long total;
+        boolean totalCapped = false;
+        SearchCursor next = null;
+        // Keyset paging — when a cursor is given, page/offset are ignored
+        SearchCursor after = SearchCursor.decode(criteria.getCursor()).orElse(null);
+        // Full match set from the index on the memory backend — the page and its facets both come from it
+        boolean memory = useIndex();
+        List<ProfessionalSearchIndex.Hit> matches = memory ? searchIndex.match(filters) : null;
+        // The db backend counts facets in SQL too — the index is per instance and may lag other nodes' writes
+        List<Supplier<List<Object[]>>> facetQueries = memory ? null : dbFacetQueries(filters);
+
+        // ── Parallel mode: reads independent of the page start now and run alongside it ──
+        boolean parallel = "parallel".equalsIgnoreCase(execution);
+        List<SearchExecutor.Branch<List<Object[]>>> facetBranches =
+            parallel && facetQueries != null ? forkDbFacets(facetQueries) : null;
+        boolean complete = true;
+
+        if (memory) {
+            List<ProfessionalSearchIndex.Hit> rest =
+                after == null ? matches : matches.stream().filter(after::precedes).toList();
+            int skip = after == null ? offset : 0;
+            List<ProfessionalSearchIndex.Hit> hits = ProfessionalSearchIndex.page(rest, skip, pageSize).hits();
+            pageIds = hits.stream().map(ProfessionalSearchIndex.Hit::id).toList();
+            hits.stream().filter(h -> h.distanceKm() != null).forEach(h -> distances.put(h.id(), h.distanceKm()));
+            total   = matches.size();
+            if (skip + hits.size() < rest.size()) {
+                next = SearchCursor.after(hits.get(hits.size() - 1));
+            }
+        } else if (after != null) {
+            // The keyset statement stops one row past the page; the total is its own (capped) count
+            boolean cappedCount = SearchCountMode.from(countMode) == SearchCountMode.CAPPED;
+            SearchExecutor.Branch<Long> count = parallel
+                ? searchExecutor.fork("count", () -> countAfterCursor(filters, cappedCount), countTimeoutMs) : null;
+            ProfessionalSearchRepository.SearchPage rows =
+                professionalRepository.searchAfter(filters, pageSize, after);
+            pageIds = rows.ids();
+            distances.putAll(rows.distancesKm());
+            next    = rows.next();
+            Optional<Long> counted = count == null
+                ? Optional.of(countAfterCursor(filters, cappedCount)) : count.join();
+            if (counted.isEmpty()) {
+                // Without a count, report what this page proves exists as a lower bound
+                total       = pageIds.size();
+                totalCapped = true;
+                complete    = false;
+            } else {
+                total       = cappedCount ? Math.min(counted.get(), countCap) : counted.get();
+                totalCapped = cappedCount && counted.get() > countCap;
+            }
+        } else {
+            SearchCountMode mode = SearchCountMode.from(countMode);
+            // Capped counting can't serve pages past the cap — those get an exact inline count
+            if (mode == SearchCountMode.CAPPED && offset + pageSize > countCap) {
+                mode = SearchCountMode.INLINE;
+            }
+            // The legacy query neither returns distances nor sorts by them
+            if (mode == SearchCountMode.SEPARATE && filters.hasGeoFilter()) {
+                mode = SearchCountMode.INLINE;
+            }
+            switch (mode) {
+                // The legacy query returns no rank scores, so this mode hands out no cursor
+                case SEPARATE -> {
+                    SearchExecutor.Branch<Long> count = parallel
+                        ? searchExecutor.fork("count", () -> countSeparately(filters), countTimeoutMs) : null;
+                    loaded  = professionalRepository.searchProfessionals(
+                        query, city, state, country, criteria.getRemote(), criteria.getAvailable(),
+                        category, area, filters.subcategoryArrayLiteral(), lat, lng, radiusKm, pageSize, offset);
+                    pageIds = loaded.stream().map(Professional::getId).toList();
+                    if (count == null) {
+                        total = countSeparately(filters);
+                    } else {
+                        // Without a count, report what this page proves exists as a lower bound
+                        Optional<Long> counted = count.join();
+                        total       = counted.orElse((long) offset + pageIds.size());
+                        totalCapped = counted.isEmpty();
+                        complete    = counted.isPresent();
+                    }
+                }
+                case CAPPED -> {
+                    ProfessionalSearchRepository.SearchPage rows =
+                        professionalRepository.searchWithCappedTotal(filters, pageSize, offset, countCap);
+                    pageIds     = rows.ids();
+                    distances.putAll(rows.distancesKm());
+                    total       = rows.total() >= 0 ? rows.total() : 0;
+                    totalCapped = rows.totalCapped();
+                    next        = rows.next();
+                }
+                default -> {
+                    ProfessionalSearchRepository.SearchPage rows =
+                        professionalRepository.searchWithTotal(filters, pageSize, offset);
+                    pageIds = rows.ids();
+                    distances.putAll(rows.distancesKm());
+                    // Past the last page there is no row to carry the total
+                    total = rows.total() >= 0 ? rows.total() : (offset > 0 ? countSeparately(filters) : 0);
+                    next  = rows.next();
+                }
+            }
+        }
 
-        List<ProfessionalDTO> dtos = results.stream()
-            .map(professionalMapper::toDTO)
-            .collect(Collectors.toList());
+        // Cards come from one projection statement; full profiles need the entity graph
+        List<ProfessionalCardDTO> cards = null;
+        List<ProfessionalDTO> dtos = null;
+        if (criteria.isCardView()) {
+            cards = professionalRepository.findCards(pageIds).stream()
+                .map(professionalMapper::toCardDTO)
+                .toList();
+            cards.forEach(c -> c.setDistanceKm(roundKm(distances.get(c.getId()))));
+        } else {
+            dtos = (loaded != null ? loaded : hydrate(pageIds)).stream()
+                .map(professionalMapper::toDTO)
+                .collect(Collectors.toList());
+            dtos.forEach(d -> d.setDistanceKm(roundKm(distances.get(d.getId()))));
+        }
 
-        return SearchResultDTO.builder()
+        SearchFacets.Facets facets;
+        if (facetBranches != null) {
+            facets   = joinDbFacets(facetBranches);
+            complete = complete && facetBranches.stream().noneMatch(SearchExecutor.Branch::missed);
+        } else if (facetQueries != null) {
+            List<Map<String, Long>> maps = facetQueries.stream().map(q -> buildFacets(q.get())).toList();
+            facets = new SearchFacets.Facets(maps.get(0), maps.get(1), maps.get(2));
+        } else {
+            facets = indexFacets(filters, matches);
+        }
+
+        return new Computed(filters, SearchResultDTO.builder()
             .results(dtos)
+            .cards(cards)
             .page(page)
             .pageSize(pageSize)
             .total(total)
             .totalPages((int) Math.ceil((double) total / pageSize))
+            .totalCapped(totalCapped)
+            .nextCursor(next != null ? next.encode() : null)
             .query(criteria.getQuery())
             .location(city)
-            .categoryFacets(buildFacets(professionalRepository.facetsByCategory()))
-            .cityFacets(buildFacets(professionalRepository.facetsByCity()))
-            .areaFacets(buildFacets(professionalRepository.facetsByServiceArea()))
-            .build();
+            .sort(filters.sort().name().toLowerCase())
+            .categoryFacets(facets.categories())
+            .cityFacets(facets.cities())
+            .areaFacets(facets.areas())
+            .build(), complete);
+    }
+
+    /**
+     * Memory-backend facets: the index's incremental whole-catalogue counts when nothing is
+     * filtered, otherwise counts over the index matches the page was cut from.
+     */
+    private SearchFacets.Facets indexFacets(SearchFilters filters, List<ProfessionalSearchIndex.Hit> matches) {
+        if (filters.isUnfiltered()) return searchFacets.global();
+        return searchFacets.forDocuments(matches.stream()
+            .map(hit -> searchIndex.get(hit.id()))
+            .filter(Objects::nonNull)
+            .toList());
+    }
+
+    /**
+     * Category, city and service-area facet reads, in that order, over the same matches as the
+     * page query. Unfiltered searches use the whole-catalogue queries (from the search read model
+     * when app.search.read-model=docs).
+     */
+    private List<Supplier<List<Object[]>>> dbFacetQueries(SearchFilters filters) {
+        if (!filters.isUnfiltered()) {
+            return List.of(
+                () -> professionalRepository.facetMatches(filters, ProfessionalSearchRepository.Facet.CATEGORY),
+                () -> professionalRepository.facetMatches(filters, ProfessionalSearchRepository.Facet.CITY),
+                () -> professionalRepository.facetMatches(filters, ProfessionalSearchRepository.Facet.SERVICE_AREA));
+        }
+        boolean docs = "docs".equalsIgnoreCase(readModel);
+        return List.of(
+            docs ? professionalRepository::docFacetsByCategory    : professionalRepository::facetsByCategory,
+            docs ? professionalRepository::docFacetsByCity        : professionalRepository::facetsByCity,
+            docs ? professionalRepository::docFacetsByServiceArea : professionalRepository::facetsByServiceArea);
+    }
+
+    private List<SearchExecutor.Branch<List<Object[]>>> forkDbFacets(List<Supplier<List<Object[]>>> queries) {
+        return queries.stream()
+            .map(q -> searchExecutor.fork("facets", q::get, facetTimeoutMs))
+            .toList();
+    }
+
+    /** A facet read that failed or timed out comes back empty rather than failing the search. */
+    private SearchFacets.Facets joinDbFacets(List<SearchExecutor.Branch<List<Object[]>>> branches) {
+        List<Map<String, Long>> maps = branches.stream()
+            .map(b -> b.join().map(this::buildFacets).orElse(Map.of()))
+            .toList();
+        return new SearchFacets.Facets(maps.get(0), maps.get(1), maps.get(2));
+    }
+
+    /**
+     * Resolves a location hint to a known service area or city. Uses the in-memory
+     * gazetteer once the index has loaded; until then, one trigram query per hint.
+     */
+    private Optional<LocationGazetteer.Match> resolveLocation(String hint) {
+        String canonical = CITY_ALIASES.getOrDefault(hint.toLowerCase(), hint);
+        if (searchIndex.isReady()) {
+            return locationGazetteer.resolve(canonical);
+        }
+        return professionalRepository.findMatchingAreaName(canonical).stream()
+            .findFirst()
+            .map(name -> new LocationGazetteer.Match(name, LocationGazetteer.Kind.AREA, 0));
+    }
+
+    private Optional<LocationGazetteer.Split> splitTrailingLocation(String query) {
+        if (searchIndex.isReady()) {
+            return locationGazetteer.splitTrailing(query);
+        }
+        String[] words = query.split("\\s+");
+        for (int i = words.length - 1; i >= 1; i--) {
+            String trailingHint = String.join(" ", Arrays.copyOfRange(words, i, words.length));
+            Optional<LocationGazetteer.Match> matched = resolveLocation(trailingHint);
+            if (matched.isPresent()) {
+                String remainingKeyword = String.join(" ", Arrays.copyOfRange(words, 0, i));
+                return Optional.of(new LocationGazetteer.Split(
+                    remainingKeyword.isBlank() ? null : remainingKeyword, matched.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private long countSeparately(SearchFilters f) {
+        return professionalRepository.countMatches(f);
+    }
+
+    /** Total for a keyset page — at most {@code countCap} + 1 in capped count mode. */
+    private long countAfterCursor(SearchFilters f, boolean capped) {
+        return capped ? professionalRepository.countMatches(f, countCap) : countSeparately(f);
+    }
+
+    /** "memory" serves ranking from {@link ProfessionalSearchIndex} once it has finished building. */
+    private boolean useIndex() {
+        return "memory".equalsIgnoreCase(searchBackend) && searchIndex.isReady();
+    }
+
+    /** Phase 2 of a search: the page's professionals, fully loaded in a fixed number of batched statements. */
+    private List<Professional> hydrate(List<Long> ids) {
+        return professionalRepository.findAllForDisplay(ids);
+    }
+
+    /** To 10 m — finer than any coordinate a client sends */
+    private static Double roundKm(Double km) {
+        return km == null ? null : Math.round(km * 100) / 100.0;
     }
 
     private String blankNull(String s) {
@@ -6,10 +6,13 @@ import com.proconnect.exception.DuplicateResourceException;
 import com.proconnect.exception.ResourceNotFoundException;
 import com.proconnect.mapper.ProfessionalMapper;
 import com.proconnect.repository.ProfessionalRepository;
+import com.proconnect.search.ProfessionalSearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,21 +23,24 @@ public class ProfessionalService {
     private final ProfessionalRepository professionalRepository;
     private final ProfessionalMapper professionalMapper;
     private final ProfessionalSearchService searchService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LocationUpdateBuffer locationUpdates;
+    private final ProfessionalSearchIndex searchIndex;
 
     public List<ProfessionalDTO> getAllProfessionals() {
-        return professionalRepository.findAll().stream()
+        return professionalRepository.findAllSummaries().stream()
             .map(professionalMapper::toDTO)
             .collect(Collectors.toList());
     }
 
     public ProfessionalDTO getProfessionalById(Long id) {
-        Professional professional = professionalRepository.findById(id)
+        Professional professional = professionalRepository.findWithProfileById(id)
             .orElseThrow(() -> ResourceNotFoundException.professionalNotFound(id));
         return professionalMapper.toDTO(professional);
     }
 
     public ProfessionalDTO getProfessionalBySlug(String slug) {
-        Professional professional = professionalRepository.findBySlug(slug)
+        Professional professional = professionalRepository.findWithProfileBySlug(slug)
             .orElseThrow(() -> new ResourceNotFoundException("Professional not found with slug: " + slug));
         return professionalMapper.toDTO(professional);
     }
@@ -47,6 +53,11 @@ public class ProfessionalService {
         return searchService.search(criteria);
     }
 
+    /** Typeahead completions for a partly typed search term. */
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        return searchService.suggest(prefix, limit);
+    }
+
     @Transactional
     public ProfessionalDTO createProfessional(ProfessionalDTO dto) {
         // Reject duplicate email
@@ -66,6 +77,7 @@ public class ProfessionalService {
         }
         Professional professional = professionalMapper.toEntity(dto);
         Professional saved = professionalRepository.save(professional);
+        eventPublisher.publishEvent(ProfessionalChangedEvent.updated(saved.getId()));
         return professionalMapper.toDTO(saved);
     }
 
@@ -75,7 +87,10 @@ public class ProfessionalService {
             .orElseThrow(() -> ResourceNotFoundException.professionalNotFound(id));
 
         professionalMapper.updateEntityFromDTO(professional, dto);
+        // Collection-only edits don't dirty the row; touch it so incremental exports see them
+        professional.setUpdatedAt(LocalDateTime.now());
         Professional updated = professionalRepository.save(professional);
+        eventPublisher.publishEvent(ProfessionalChangedEvent.updated(id));
         return professionalMapper.toDTO(updated);
     }
 
@@ -84,6 +99,7 @@ public class ProfessionalService {
             throw ResourceNotFoundException.professionalNotFound(id);
         }
         professionalRepository.deleteById(id);
+        eventPublisher.publishEvent(ProfessionalChangedEvent.deleted(id));
     }
 
     public List<String> getDistinctCities() {
@@ -96,7 +112,10 @@ public class ProfessionalService {
         Professional professional = professionalRepository.findById(professionalId)
                 .orElseThrow(() -> ResourceNotFoundException.professionalNotFound(professionalId));
         professionalMapper.updateEntityFromDTO(professional, dto);
-        return professionalMapper.toDTO(professionalRepository.save(professional));
+        professional.setUpdatedAt(LocalDateTime.now());
+        Professional updated = professionalRepository.save(professional);
+        eventPublisher.publishEvent(ProfessionalChangedEvent.updated(professionalId));
+        return professionalMapper.toDTO(updated);
     }
 
     /** Toggle the isAvailable flag for the currently authenticated professional. */
@@ -106,16 +125,22 @@ public class ProfessionalService {
                 .orElseThrow(() -> ResourceNotFoundException.professionalNotFound(professionalId));
         professional.setIsAvailable(isAvailable);
         professionalRepository.save(professional);
+        eventPublisher.publishEvent(ProfessionalChangedEvent.updated(professionalId));
         return isAvailable;
     }
 
-    /** Update the lat/lng for the currently authenticated professional. */
-    @Transactional
+    /**
+     * Records the lat/lng for the currently authenticated professional. Buffered — the DB row
+     * is written by the next {@link LocationUpdateBuffer} flush, the search index moves now.
+     * Existence is checked against the search index (or pending pings) before the DB.
+     */
     public void updateLocation(Long professionalId, java.math.BigDecimal lat, java.math.BigDecimal lng) {
-        Professional professional = professionalRepository.findById(professionalId)
-                .orElseThrow(() -> ResourceNotFoundException.professionalNotFound(professionalId));
-        professional.setLatitude(lat);
-        professional.setLongitude(lng);
-        professionalRepository.save(professional);
+        boolean known = locationUpdates.latest(professionalId).isPresent()
+                || (searchIndex.isReady() && searchIndex.get(professionalId) != null)
+                || professionalRepository.existsById(professionalId);
+        if (!known) {
+            throw ResourceNotFoundException.professionalNotFound(professionalId);
+        }
+        locationUpdates.record(professionalId, lat, lng);
     }
 }
@@ -11,6 +11,7 @@ import com.proconnect.repository.ProfessionalRepository;
 import com.proconnect.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +29,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final BookingInquiryRepository bookingInquiryRepository;
     private final ProfessionalRepository professionalRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TokenValidationDTO validateToken(String token) {
         return bookingInquiryRepository.findByReviewToken(token)
@@ -100,5 +102,7 @@ public class ReviewService {
         }
         professional.setReviewCount((int) count);
         professionalRepository.save(professional);
+        // rating feeds search ranking
+        eventPublisher.publishEvent(ProfessionalChangedEvent.updated(professional.getId()));
     }
 }
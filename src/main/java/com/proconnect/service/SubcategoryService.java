@@ -4,6 +4,7 @@ import com.proconnect.dto.SubcategoryDTO;
 import com.proconnect.entity.Subcategory;
 import com.proconnect.repository.CategoryRepository;
 import com.proconnect.repository.SubcategoryRepository;
+import com.proconnect.search.SuggestionIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -18,6 +19,7 @@ public class SubcategoryService {
 
     private final SubcategoryRepository subcategoryRepository;
     private final CategoryRepository categoryRepository;
+    private final SuggestionIndex suggestionIndex;
 
     @Cacheable("skills")
     public List<SubcategoryDTO> getAllSubcategories() {
@@ -44,6 +46,7 @@ public class SubcategoryService {
         categoryRepository.findByName(dto.getCategory())
             .ifPresent(entity::setCategory);
         Subcategory saved = subcategoryRepository.save(entity);
+        suggestionIndex.addCatalogName(SuggestionIndex.Kind.SUBCATEGORY, saved.getName());
         return toDTO(saved);
     }
 
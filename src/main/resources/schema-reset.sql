@@ -12,7 +12,9 @@ DROP TRIGGER IF EXISTS trig_professionals_fts  ON professionals ^^
 DROP TRIGGER IF EXISTS trig_professionals_slug ON professionals ^^
 DROP FUNCTION IF EXISTS professionals_search_vector_update() ^^
 DROP FUNCTION IF EXISTS generate_professional_slug() ^^
+DROP FUNCTION IF EXISTS refresh_professional_search_doc(BIGINT) ^^
 
+DROP TABLE IF EXISTS professional_search_docs   CASCADE ^^
 DROP TABLE IF EXISTS contact_views              CASCADE ^^
 DROP TABLE IF EXISTS contact_messages           CASCADE ^^
 DROP TABLE IF EXISTS social_links               CASCADE ^^
@@ -25,6 +27,8 @@ DROP TABLE IF EXISTS booking_inquiries          CASCADE ^^
 DROP TABLE IF EXISTS email_otps                 CASCADE ^^
 DROP TABLE IF EXISTS professionals              CASCADE ^^
 DROP TABLE IF EXISTS categories                 CASCADE ^^
+DROP FUNCTION IF EXISTS geo_cells_within(FLOAT8, FLOAT8, FLOAT8) ^^
+DROP FUNCTION IF EXISTS geo_cell(FLOAT8, FLOAT8) CASCADE ^^
 
 -- =============================================================
 -- RECREATE — run schema.sql to rebuild all tables, indexes,
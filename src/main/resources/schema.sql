@@ -212,6 +212,7 @@ CREATE INDEX IF NOT EXISTS idx_professionals_slug          ON professionals(slug
 CREATE INDEX IF NOT EXISTS idx_professionals_fts           ON professionals USING GIN(search_vector) ^^
 CREATE INDEX IF NOT EXISTS idx_professionals_city_trgm     ON professionals USING GIN(city gin_trgm_ops) ^^
 CREATE INDEX IF NOT EXISTS idx_professionals_name_trgm     ON professionals USING GIN((first_name || ' ' || last_name) gin_trgm_ops) ^^
+CREATE INDEX IF NOT EXISTS idx_professionals_updated_at    ON professionals(updated_at, id) ^^
 CREATE INDEX IF NOT EXISTS idx_subcategories_category      ON subcategories(category_id) ^^
 CREATE INDEX IF NOT EXISTS idx_subcategories_name_trgm     ON subcategories USING GIN(name gin_trgm_ops) ^^
 CREATE INDEX IF NOT EXISTS idx_services_professional       ON services(professional_id) ^^
@@ -288,8 +289,11 @@ END
 $$ LANGUAGE plpgsql ^^
 
 DROP TRIGGER IF EXISTS trig_professionals_fts ON professionals ^^
+-- Only the columns the vector is built from (plus search_vector itself, which the services
+-- trigger touches to force a rebuild) — location-only updates skip it
 CREATE TRIGGER trig_professionals_fts
-    BEFORE INSERT OR UPDATE ON professionals
+    BEFORE INSERT OR UPDATE OF first_name, last_name, headline, bio, city, state, country,
+                               category_id, search_vector ON professionals
     FOR EACH ROW EXECUTE FUNCTION professionals_search_vector_update() ^^
 
 -- Trigger to re-index professional when services change
@@ -346,5 +350,136 @@ $$ LANGUAGE plpgsql ^^
 
 DROP TRIGGER IF EXISTS trig_professionals_slug ON professionals ^^
 CREATE TRIGGER trig_professionals_slug
-    BEFORE INSERT OR UPDATE ON professionals
+    BEFORE INSERT OR UPDATE OF slug, first_name, last_name, category_id, city ON professionals
     FOR EACH ROW EXECUTE FUNCTION generate_professional_slug() ^^
+
+-- ============================================================
+-- SEARCH READ MODEL  (one denormalised row per professional)
+-- Lets search and facet queries read a single table instead of joining
+-- categories / professional_subcategories / subcategories / professional_service_areas.
+-- Rows are rewritten by refresh_professional_search_doc(id), which the app calls
+-- in the same transaction as every profile / review write (SearchReadModelWriter).
+-- Changes made outside the app are picked up by its scheduled full backfill.
+-- ============================================================
+CREATE TABLE IF NOT EXISTS professional_search_docs (
+    id                 BIGINT        PRIMARY KEY,               -- = professionals.id
+    display_name       VARCHAR(200),
+    headline           VARCHAR(255)  NOT NULL,
+    bio                TEXT,
+    city               VARCHAR(100)  NOT NULL,
+    state              VARCHAR(100)  NOT NULL,
+    country            VARCHAR(100)  NOT NULL,
+    remote             BOOLEAN       NOT NULL DEFAULT FALSE,
+    is_available       BOOLEAN,
+    rating             DECIMAL(3,2),
+    review_count       INTEGER,
+    latitude           DECIMAL(9,6),
+    longitude          DECIMAL(9,6),
+    category_name      VARCHAR(100),
+    subcategory_names  TEXT[]        NOT NULL DEFAULT '{}',     -- lower-cased
+    service_area_names TEXT[]        NOT NULL DEFAULT '{}',
+    service_areas_text TEXT          NOT NULL DEFAULT '',       -- areas joined by ' | ' — trigram-indexed prefilter
+    service_titles     TEXT[]        NOT NULL DEFAULT '{}',
+    search_vector      tsvector,                                -- copied from professionals (trigger-maintained there)
+    updated_at         TIMESTAMP     DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (id) REFERENCES professionals(id) ON DELETE CASCADE
+) ^^
+CREATE INDEX IF NOT EXISTS idx_search_docs_fts           ON professional_search_docs USING GIN(search_vector) ^^
+CREATE INDEX IF NOT EXISTS idx_search_docs_city_trgm     ON professional_search_docs USING GIN(city gin_trgm_ops) ^^
+CREATE INDEX IF NOT EXISTS idx_search_docs_areas_trgm    ON professional_search_docs USING GIN(service_areas_text gin_trgm_ops) ^^
+CREATE INDEX IF NOT EXISTS idx_search_docs_subcategories ON professional_search_docs USING GIN(subcategory_names) ^^
+CREATE INDEX IF NOT EXISTS idx_search_docs_area_names    ON professional_search_docs USING GIN(service_area_names) ^^
+CREATE INDEX IF NOT EXISTS idx_search_docs_category      ON professional_search_docs(LOWER(category_name)) ^^
+CREATE INDEX IF NOT EXISTS idx_search_docs_available     ON professional_search_docs(is_available) ^^
+CREATE INDEX IF NOT EXISTS idx_search_docs_rating        ON professional_search_docs(rating DESC NULLS LAST, id) ^^
+
+-- Upserts one professional's row (or deletes it when the professional is gone). Returns rows written.
+CREATE OR REPLACE FUNCTION refresh_professional_search_doc(p_id BIGINT) RETURNS INTEGER AS $$
+BEGIN
+    INSERT INTO professional_search_docs (
+        id, display_name, headline, bio, city, state, country, remote, is_available,
+        rating, review_count, latitude, longitude, category_name,
+        subcategory_names, service_area_names, service_areas_text, service_titles,
+        search_vector, updated_at)
+    SELECT p.id, p.display_name, p.headline, p.bio, p.city, p.state, p.country, p.remote, p.is_available,
+           p.rating, p.review_count, p.latitude, p.longitude, cat.name,
+           COALESCE((SELECT array_agg(DISTINCT LOWER(sc.name))
+                     FROM professional_subcategories ps JOIN subcategories sc ON sc.id = ps.subcategory_id
+                     WHERE ps.professional_id = p.id), '{}'),
+           COALESCE((SELECT array_agg(DISTINCT psa.area_name)
+                     FROM professional_service_areas psa WHERE psa.professional_id = p.id), '{}'),
+           COALESCE((SELECT string_agg(DISTINCT psa.area_name, ' | ')
+                     FROM professional_service_areas psa WHERE psa.professional_id = p.id), ''),
+           COALESCE((SELECT array_agg(s.title ORDER BY s.id)
+                     FROM services s WHERE s.professional_id = p.id), '{}'),
+           p.search_vector, CURRENT_TIMESTAMP
+    FROM professionals p
+    LEFT JOIN categories cat ON cat.id = p.category_id
+    WHERE p.id = p_id
+    ON CONFLICT (id) DO UPDATE SET
+        display_name       = EXCLUDED.display_name,
+        headline           = EXCLUDED.headline,
+        bio                = EXCLUDED.bio,
+        city               = EXCLUDED.city,
+        state              = EXCLUDED.state,
+        country            = EXCLUDED.country,
+        remote             = EXCLUDED.remote,
+        is_available       = EXCLUDED.is_available,
+        rating             = EXCLUDED.rating,
+        review_count       = EXCLUDED.review_count,
+        latitude           = EXCLUDED.latitude,
+        longitude          = EXCLUDED.longitude,
+        category_name      = EXCLUDED.category_name,
+        subcategory_names  = EXCLUDED.subcategory_names,
+        service_area_names = EXCLUDED.service_area_names,
+        service_areas_text = EXCLUDED.service_areas_text,
+        service_titles     = EXCLUDED.service_titles,
+        search_vector      = EXCLUDED.search_vector,
+        updated_at         = EXCLUDED.updated_at;
+    IF FOUND THEN
+        RETURN 1;
+    END IF;
+    DELETE FROM professional_search_docs WHERE id = p_id;
+    RETURN 0;
+END
+$$ LANGUAGE plpgsql ^^
+
+-- Backfill professionals that have no row yet (idempotent)
+SELECT refresh_professional_search_doc(p.id)
+FROM professionals p
+WHERE NOT EXISTS (SELECT 1 FROM professional_search_docs d WHERE d.id = p.id) ^^
+
+-- ============================================================
+-- GEO CELLS  (radius-query prefilter — CREATE OR REPLACE / IF NOT EXISTS, idempotent)
+-- A 0.05° lat/lng grid, the same cells as the in-memory GeoGrid. Each geo row carries its
+-- cell as a generated column; a radius query first takes the cells covering the circle's
+-- bounding box (one index probe each), then applies the exact Haversine to those rows only.
+-- ============================================================
+CREATE OR REPLACE FUNCTION geo_cell(lat FLOAT8, lng FLOAT8) RETURNS BIGINT AS $$
+    SELECT CAST(floor((lat + 90) / 0.05) AS BIGINT) * 7200
+         + mod(CAST(floor((lng + 180) / 0.05) AS BIGINT), 7200)
+$$ LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE ^^
+
+-- Cells covering every point closer than radius_km — exact bounds, wraps at the antimeridian
+CREATE OR REPLACE FUNCTION geo_cells_within(lat FLOAT8, lng FLOAT8, radius_km FLOAT8) RETURNS SETOF BIGINT AS $$
+    SELECT DISTINCT la * 7200 + mod(mod(lo, 7200) + 7200, 7200)
+    FROM (SELECT degrees(radius_km / 6371) AS d_lat,
+                 CASE WHEN sin(radius_km / 6371) < cos(radians(lat))
+                      THEN degrees(asin(sin(radius_km / 6371) / cos(radians(lat))))
+                      ELSE 180 END AS d_lng) box,
+         generate_series(CAST(floor((GREATEST(lat - box.d_lat, -90) + 90) / 0.05) AS BIGINT),
+                         CAST(floor((LEAST(lat + box.d_lat, 90) + 90) / 0.05) AS BIGINT)) la,
+         generate_series(CAST(floor((lng - box.d_lng + 180) / 0.05) AS BIGINT),
+                         CAST(floor((lng + box.d_lng + 180) / 0.05) AS BIGINT)) lo
+$$ LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE ROWS 16 ^^
+
+ALTER TABLE professionals ADD COLUMN IF NOT EXISTS geo_cell BIGINT
+    GENERATED ALWAYS AS (geo_cell(CAST(latitude AS FLOAT8), CAST(longitude AS FLOAT8))) STORED ^^
+ALTER TABLE professional_search_docs ADD COLUMN IF NOT EXISTS geo_cell BIGINT
+    GENERATED ALWAYS AS (geo_cell(CAST(latitude AS FLOAT8), CAST(longitude AS FLOAT8))) STORED ^^
+ALTER TABLE job_posts ADD COLUMN IF NOT EXISTS geo_cell BIGINT
+    GENERATED ALWAYS AS (geo_cell(lat, lng)) STORED ^^
+
+CREATE INDEX IF NOT EXISTS idx_professionals_geo_cell ON professionals(geo_cell) ^^
+CREATE INDEX IF NOT EXISTS idx_search_docs_geo_cell   ON professional_search_docs(geo_cell) ^^
+CREATE INDEX IF NOT EXISTS idx_job_posts_open_geo_cell ON job_posts(geo_cell) WHERE status = 'OPEN' ^^
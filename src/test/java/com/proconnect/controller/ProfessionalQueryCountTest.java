@@ -0,0 +1,118 @@
+package com.proconnect.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Map;
+
+import static com.proconnect.support.SqlStatementCounter.assertMaxStatements;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * SQL statement budgets for the professional read endpoints, against a real Postgres
+ * (schema.sql + seed.sql + fetch-plan-data.sql). A lazy association touched once per row
+ * blows the budget, so N+1 regressions fail the build. Needs Docker; skipped without it.
+ *
+ * Search is pinned to the db path (no in-memory index, cache or coalescing), where every
+ * statement is visible.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+    "spring.sql.init.mode=always",
+    "spring.sql.init.data-locations=classpath:seed.sql,classpath:fetch-plan-data.sql",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.proconnect.support.SqlStatementCounter",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+    "app.search.index.enabled=false",
+    "app.search.cache.enabled=false",
+    "app.search.coalesce.enabled=false",
+    "app.search.count-mode=inline",
+    "app.search.execution=sequential"
+})
+@AutoConfigureMockMvc
+@DisplayName("Professional endpoints — SQL statement budgets")
+class ProfessionalQueryCountTest {
+
+    /** Page ids + total (1), one fetch-join per association (5), category / city / area facets (3) */
+    private static final int SEARCH_PAGE = 9;
+    /** Page ids + total (1), card projection (1), facets (3) */
+    private static final int SEARCH_CARDS = 5;
+    /** Professional with category and subcategories (1), then services, service areas, social links (3) */
+    private static final int PROFILE = 4;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url",      POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired MockMvc mockMvc;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest(name = "pageSize={0}")
+    @ValueSource(ints = {5, 20})
+    @DisplayName("GET /api/professionals — the statement count does not grow with the page size")
+    void search_fullView(int pageSize) throws Exception {
+        assertMaxStatements(SEARCH_PAGE, "GET /api/professionals?pageSize=" + pageSize, () ->
+            mockMvc.perform(get("/api/professionals").param("pageSize", String.valueOf(pageSize)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results").isNotEmpty())
+                .andExpect(jsonPath("$.results[0].services").isNotEmpty()));
+    }
+
+    @Test
+    @DisplayName("GET /api/professionals?view=card — one projection statement for the whole page")
+    void search_cardView() throws Exception {
+        assertMaxStatements(SEARCH_CARDS, "GET /api/professionals?view=card", () ->
+            mockMvc.perform(get("/api/professionals").param("view", "card").param("pageSize", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cards").isNotEmpty())
+                .andExpect(jsonPath("$.results").doesNotExist()));
+    }
+
+    @Test
+    @DisplayName("GET /api/professionals/{id} — profile fetch plan")
+    void profileById() throws Exception {
+        Map<String, Object> pro = firstProfessional();
+        assertMaxStatements(PROFILE, "GET /api/professionals/{id}", () ->
+            mockMvc.perform(get("/api/professionals/{id}", pro.get("id")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.subcategories").isNotEmpty())
+                .andExpect(jsonPath("$.socialLinks").isNotEmpty()));
+    }
+
+    @Test
+    @DisplayName("GET /api/professionals/slug/{slug} — profile fetch plan")
+    void profileBySlug() throws Exception {
+        Map<String, Object> pro = firstProfessional();
+        assertMaxStatements(PROFILE, "GET /api/professionals/slug/{slug}", () ->
+            mockMvc.perform(get("/api/professionals/slug/{slug}", pro.get("slug")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.serviceAreas").isNotEmpty()));
+    }
+
+    private Map<String, Object> firstProfessional() {
+        return jdbcTemplate.queryForMap(
+            "SELECT p.id, p.slug FROM professionals p " +
+            "WHERE EXISTS (SELECT 1 FROM professional_subcategories ps WHERE ps.professional_id = p.id) " +
+            "ORDER BY p.id LIMIT 1");
+    }
+}
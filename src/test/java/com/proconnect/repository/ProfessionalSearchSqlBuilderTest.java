@@ -0,0 +1,93 @@
+package com.proconnect.repository;
+
+import com.proconnect.search.SearchFilters;
+import com.proconnect.search.SearchSort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ProfessionalSearchSqlBuilder — unit tests")
+class ProfessionalSearchSqlBuilderTest {
+
+    private final ProfessionalSearchSqlBuilder builder =
+        new ProfessionalSearchSqlBuilder(ProfessionalSearchSqlBuilder.Source.TABLES);
+
+    private static SearchFilters filters(String query, String city, String area, List<String> subcategories) {
+        return new SearchFilters(query, city, null, null, null, true, null, area, subcategories, null, null, 3.0);
+    }
+
+    @Test
+    @DisplayName("match — emits only the supplied filters, with no catch-all IS NULL branches")
+    void match_onlyActivePredicates() {
+        String sql = builder.match(
+            ProfessionalSearchSqlBuilder.shape(filters(null, "Bengaluru", null, null)));
+
+        assertThat(sql)
+            .contains("p.city % :city", "p.is_available = :available")
+            .doesNotContain(":query", ":area", ":subcategoryNames", ":lat", "IS NULL OR", "GROUP BY");
+    }
+
+    @Test
+    @DisplayName("match — one-to-many filters are EXISTS subqueries, not joins")
+    void match_usesExistsForCollections() {
+        String sql = builder.match(
+            ProfessionalSearchSqlBuilder.shape(filters("plumber", null, "Indiranagar", List.of("tiling"))));
+
+        assertThat(sql)
+            .contains("psa.area_name % :area", "ANY(CAST(:subcategoryNames AS TEXT[]))")
+            .doesNotContain("LEFT JOIN professional_service_areas", "LEFT JOIN professional_subcategories");
+    }
+
+    @Test
+    @DisplayName("statement — SQL is built once per filter shape and reused")
+    void statement_cachedPerShape() {
+        String first  = builder.statement("count", filters("plumber", "Pune", null, null), (m, sc, d) -> "SELECT 1 " + m);
+        String second = builder.statement("count", filters("electrician", "Mumbai", null, null), (m, sc, d) -> fail("rebuilt"));
+        String other  = builder.statement("count", filters("plumber", null, null, null), (m, sc, d) -> "SELECT 2 " + m);
+
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("match — the docs read model filters one table, with array operators for collections")
+    void match_docsReadModel() {
+        ProfessionalSearchSqlBuilder docs = new ProfessionalSearchSqlBuilder(ProfessionalSearchSqlBuilder.Source.DOCS);
+
+        String sql = docs.match(
+            ProfessionalSearchSqlBuilder.shape(filters("plumber", null, "Indiranagar", List.of("tiling"))));
+
+        assertThat(sql)
+            .contains("FROM professional_search_docs p", "p.subcategory_names && CAST(:subcategoryNames AS TEXT[])",
+                "p.category_name")
+            .doesNotContain("JOIN");
+    }
+
+    @Test
+    @DisplayName("match — a radius filter narrows to the covering geo cells, then computes the distance once")
+    void match_geoCellPrefilter() {
+        String sql = builder.match(ProfessionalSearchSqlBuilder.shape(geo(SearchSort.RELEVANCE)));
+
+        assertThat(sql).contains("p.geo_cell IN (SELECT geo_cells_within(", "geo.distance_km < CAST(:radiusKm AS FLOAT8)");
+        assertThat(sql.split("acos\\(", -1)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("statement — distance and blended sorts score on the computed distance, each with its own SQL")
+    void statement_sortModes() {
+        ProfessionalSearchSqlBuilder.Template template = (m, score, distance) -> score + " | " + distance;
+
+        assertThat(builder.statement("t", geo(SearchSort.RELEVANCE), template)).isEqualTo("0.0 | geo.distance_km");
+        assertThat(builder.statement("t", geo(SearchSort.DISTANCE), template)).isEqualTo("-geo.distance_km | geo.distance_km");
+        assertThat(builder.statement("t", geo(SearchSort.BLENDED), template))
+            .startsWith("0.0 + " + SearchSort.PROXIMITY_WEIGHT + " * (1 - geo.distance_km");
+        assertThat(builder.statement("t", filters(null, null, null, null), template)).isEqualTo("0.0 | NULL");
+    }
+
+    private static SearchFilters geo(SearchSort sort) {
+        return new SearchFilters(null, null, null, null, null, true, null, null, null, 12.93, 77.62, 5.0, sort);
+    }
+}
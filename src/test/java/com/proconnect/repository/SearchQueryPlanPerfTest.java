@@ -0,0 +1,310 @@
+package com.proconnect.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proconnect.repository.ProfessionalSearchSqlBuilder.Source;
+import com.proconnect.search.SearchFilters;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Query-plan and latency regression suite for the search SQL, over a synthetic dataset
+ * (search-perf-data.sql, 100k professionals by default) in a throwaway Postgres.
+ *
+ * Tagged "perf" and left out of the default build — run with {@code mvn test -Pperf}
+ * (needs Docker), optionally with {@code -Dperf.rows=1000000}, {@code -Dperf.budget-ms=…}
+ * and {@code -Dperf.legacy-budget-ms=…}.
+ *
+ * Each case is timed over a few runs and explained once with EXPLAIN (ANALYZE, BUFFERS);
+ * plans land in target/search-plans/ and a summary table is printed at the end. A case fails
+ * when its median latency exceeds its budget, or when the plan sequentially scans a table its
+ * filters can reach through an index.
+ */
+@Tag("perf")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(showSql = false, properties = {
+    "spring.sql.init.mode=always",
+    "spring.sql.init.data-locations=classpath:seed.sql,classpath:search-perf-data.sql",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Search query plans — synthetic dataset")
+class SearchQueryPlanPerfTest {
+
+    private static final int  ROWS             = Integer.getInteger("perf.rows", 100_000);
+    private static final long BUDGET_MS        = Long.getLong("perf.budget-ms", 250);
+    private static final long LEGACY_BUDGET_MS = Long.getLong("perf.legacy-budget-ms", 2_000);
+    private static final int  WARMUP_RUNS      = 2;
+    private static final int  TIMED_RUNS       = 5;
+
+    private static final String EXPLAIN        = "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON)\n";
+    private static final String GEO_CELL_INDEX = "idx_professionals_geo_cell";
+    private static final Path   PLAN_DIR       = Path.of("target", "search-plans");
+
+    // Koramangala, Bengaluru — the area filter below is one of its service areas
+    private static final double LAT = 12.9352;
+    private static final double LNG = 77.6245;
+
+    private static final ObjectMapper JSON   = new ObjectMapper();
+    private static final List<String> REPORT = Collections.synchronizedList(new ArrayList<>());
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withCommand("postgres", "-c", "fsync=off", "-c", "perf.rows=" + ROWS);
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url",      POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @PersistenceContext EntityManager entityManager;
+    @Autowired ProfessionalRepository professionalRepository;
+
+    record Plan(Set<String> seqScans, Set<String> indexes, double executionMs) {}
+
+    // =========================================================================
+    // Generated statements (what the db backend runs) — every filter combination
+    // =========================================================================
+
+    /** Every subset of the selective filters, with the controller's default available=true, plus the flag filters. */
+    static Stream<Arguments> filterCombinations() {
+        Stream.Builder<Arguments> cases = Stream.builder();
+        for (int mask = 0; mask < 1 << 6; mask++) {
+            boolean geo = (mask & 32) != 0;
+            SearchFilters f = new SearchFilters(
+                (mask & 1) != 0 ? "plumber"                   : null,
+                (mask & 2) != 0 ? "Mysuru"                    : null,
+                null, null, null, true,
+                (mask & 4) != 0 ? "Plumbing"                  : null,
+                (mask & 8) != 0 ? "Koramangala"               : null,
+                (mask & 16) != 0 ? List.of("drain cleaning")  : null,
+                geo ? LAT : null, geo ? LNG : null, 5.0);
+            cases.add(Arguments.of(describe(f), f));
+        }
+        cases.add(Arguments.of("state",   new SearchFilters(null, null, "Karnataka", null, null, true, null, null, null, null, null, 3.0)));
+        cases.add(Arguments.of("country", new SearchFilters(null, null, null, "India", null, true, null, null, null, null, null, 3.0)));
+        cases.add(Arguments.of("remote",  new SearchFilters(null, null, null, null, true, true, null, null, null, null, null, 3.0)));
+        cases.add(Arguments.of("any availability", new SearchFilters(null, null, null, null, null, null, null, null, null, null, null, 3.0)));
+        return cases.build();
+    }
+
+    @ParameterizedTest(name = "tables — {0}")
+    @MethodSource("filterCombinations")
+    @DisplayName("generated search over the normalised tables — within budget, indexed where the filters allow")
+    void generatedSearch_tables(String name, SearchFilters filters) throws Exception {
+        checkGenerated("tables — " + name, Source.TABLES, filters);
+    }
+
+    @ParameterizedTest(name = "docs — {0}")
+    @MethodSource("filterCombinations")
+    @DisplayName("generated search over professional_search_docs — within budget, indexed where the filters allow")
+    void generatedSearch_docs(String name, SearchFilters filters) throws Exception {
+        checkGenerated("docs — " + name, Source.DOCS, filters);
+    }
+
+    // =========================================================================
+    // Repository @Query methods
+    // =========================================================================
+
+    @Test
+    @DisplayName("searchProfessionals — catch-all form stays within the legacy budget")
+    void searchProfessionals() throws Exception {
+        // The (:x IS NULL OR …) form can't use the indexes; only latency is guarded here
+        checkRepositoryQuery("searchProfessionals — no filters", LEGACY_BUDGET_MS, Set.of(), "searchProfessionals",
+            null, null, null, null, null, true, null, null, null, null, null, 3.0, 10, 0);
+        checkRepositoryQuery("searchProfessionals — keyword + city", LEGACY_BUDGET_MS, Set.of(), "searchProfessionals",
+            "plumber", "Mysuru", null, null, null, true, null, null, null, null, null, 3.0, 10, 0);
+        checkRepositoryQuery("searchProfessionals — category + area + geo", LEGACY_BUDGET_MS, Set.of(), "searchProfessionals",
+            null, null, null, null, null, true, "Plumbing", "Koramangala", null, LAT, LNG, 5.0, 10, 0);
+    }
+
+    @Test
+    @DisplayName("searchByRadius / countByRadius — within budget, prefiltered through the geo_cell index")
+    void searchByRadius() throws Exception {
+        Plan search = checkRepositoryQuery("searchByRadius — category", BUDGET_MS, Set.of("professionals"), "searchByRadius",
+            LAT, LNG, 5.0, true, "Plumbing", null, 10, 0);
+        Plan count = checkRepositoryQuery("countByRadius — category", BUDGET_MS, Set.of("professionals"), "countByRadius",
+            LAT, LNG, 5.0, true, "Plumbing", null);
+        assertThat(search.indexes()).as("searchByRadius — indexes used").contains(GEO_CELL_INDEX);
+        assertThat(count.indexes()).as("countByRadius — indexes used").contains(GEO_CELL_INDEX);
+    }
+
+    @Test
+    @DisplayName("findNearbyAvailableByCategory — within budget, prefiltered through the geo_cell index")
+    void findNearbyAvailableByCategory() throws Exception {
+        Plan plan = checkRepositoryQuery("findNearbyAvailableByCategory", BUDGET_MS, Set.of("professionals"),
+            "findNearbyAvailableByCategory", LAT, LNG, 5, "Plumbing");
+        assertThat(plan.indexes()).as("findNearbyAvailableByCategory — indexes used").contains(GEO_CELL_INDEX);
+    }
+
+    @AfterAll
+    static void printReport() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("Search query plans — %,d synthetic professionals".formatted(ROWS));
+        lines.add("%-62s %9s %9s  %-40s %s".formatted("case", "median", "explain", "seq scans", "indexes"));
+        REPORT.stream().sorted().forEach(lines::add);
+        Files.createDirectories(PLAN_DIR);
+        Files.write(PLAN_DIR.resolve("summary.txt"), lines);
+        lines.forEach(System.out::println);
+    }
+
+    // ── Checks ────────────────────────────────────────────────────────────────
+
+    /** Runs the statement ProfessionalSearchRepositoryImpl#searchWithTotal would issue for these filters. */
+    private void checkGenerated(String name, Source source, SearchFilters f) throws Exception {
+        ProfessionalSearchSqlBuilder builder = new ProfessionalSearchSqlBuilder(source);
+        String sql = builder.statement("inline", f, ProfessionalSearchRepositoryImpl::inlineTotal);
+        Function<String, jakarta.persistence.Query> prepare = prefix -> {
+            if (ProfessionalSearchSqlBuilder.usesTrigramOperator(f)) {
+                entityManager.createNativeQuery(ProfessionalSearchSqlBuilder.TRIGRAM_THRESHOLD_SQL).getSingleResult();
+            }
+            jakarta.persistence.Query q = entityManager.createNativeQuery(prefix + sql);
+            builder.bind(q, f);
+            q.setParameter("pageSize", 10);
+            q.setParameter("offset", 0);
+            return q;
+        };
+
+        long medianMs = medianMillis(() -> prepare.apply("").getResultList());
+        Plan plan = explain(name, prepare.apply(EXPLAIN));
+        verify(name, medianMs, BUDGET_MS, plan, indexedRelations(source, f));
+    }
+
+    /** Times the repository method itself, and explains its @Query text with the same arguments; returns the plan. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Plan checkRepositoryQuery(String name, long budgetMs, Set<String> indexed,
+                                      String methodName, Object... args) throws Exception {
+        Method method = Arrays.stream(ProfessionalRepository.class.getMethods())
+            .filter(m -> m.getName().equals(methodName))
+            .findFirst().orElseThrow();
+
+        long medianMs = medianMillis(() -> ReflectionUtils.invokeMethod(method, professionalRepository, args));
+
+        NativeQuery q = entityManager.createNativeQuery(EXPLAIN + method.getAnnotation(Query.class).value())
+            .unwrap(NativeQuery.class);
+        Parameter[] params = method.getParameters();
+        for (int i = 0; i < params.length; i++) {
+            // Typed so nulls bind the way Spring Data binds them
+            q.setParameter(params[i].getAnnotation(Param.class).value(), args[i],
+                (Class) ClassUtils.resolvePrimitiveIfNecessary(params[i].getType()));
+        }
+        Plan plan = explain(name, q);
+        verify(name, medianMs, budgetMs, plan, indexed);
+        return plan;
+    }
+
+    private void verify(String name, long medianMs, long budgetMs, Plan plan, Set<String> indexed) {
+        REPORT.add("%-62s %7d ms %6.1f ms  %-40s %s".formatted(name, medianMs, plan.executionMs(),
+            String.join(",", plan.seqScans()), String.join(",", plan.indexes())));
+
+        assertThat(medianMs)
+            .as("%s — median latency over %d runs", name, TIMED_RUNS)
+            .isLessThanOrEqualTo(budgetMs);
+        assertThat(plan.seqScans())
+            .as("%s — sequential scans on tables the filters can reach through an index", name)
+            .doesNotContainAnyElementsOf(indexed);
+    }
+
+    /**
+     * Tables whose filters here are selective and index-backed, so a Seq Scan on them is a regression.
+     * Keyword search is absent on purpose: its similarity() branches over bio/headline can't use an index.
+     */
+    private static Set<String> indexedRelations(Source source, SearchFilters f) {
+        Set<String> relations = new HashSet<>();
+        if (source == Source.DOCS) {
+            if (f.city() != null || f.area() != null || f.subcategoryNames() != null || f.hasGeoFilter()) {
+                relations.add("professional_search_docs");
+            }
+        } else {
+            if (f.city() != null) relations.add("professionals");                 // idx_professionals_city_trgm
+            if (f.hasGeoFilter()) relations.add("professionals");                 // idx_professionals_geo_cell
+            if (f.area() != null) relations.add("professional_service_areas");    // idx_service_areas_name_trgm
+        }
+        return relations;
+    }
+
+    // ── Measurement ───────────────────────────────────────────────────────────
+
+    private long medianMillis(Runnable statement) {
+        long[] samples = new long[TIMED_RUNS];
+        for (int i = 0; i < WARMUP_RUNS + TIMED_RUNS; i++) {
+            entityManager.clear();
+            long start = System.nanoTime();
+            statement.run();
+            if (i >= WARMUP_RUNS) samples[i - WARMUP_RUNS] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(samples);
+        return samples[TIMED_RUNS / 2];
+    }
+
+    private Plan explain(String name, jakarta.persistence.Query query) throws Exception {
+        String json = (String) query.unwrap(NativeQuery.class)
+            .addScalar("QUERY PLAN", StandardBasicTypes.STRING)
+            .getSingleResult();
+        Files.createDirectories(PLAN_DIR);
+        Files.writeString(PLAN_DIR.resolve(name.replaceAll("[^A-Za-z0-9]+", "-") + ".json"), json);
+
+        JsonNode root = JSON.readTree(json).get(0);
+        Set<String> seqScans = new TreeSet<>();
+        Set<String> indexes  = new TreeSet<>();
+        collect(root.get("Plan"), seqScans, indexes);
+        return new Plan(seqScans, indexes, root.path("Execution Time").asDouble());
+    }
+
+    private static void collect(JsonNode node, Set<String> seqScans, Set<String> indexes) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            seqScans.add(node.path("Relation Name").asText());
+        }
+        if (node.has("Index Name")) {
+            indexes.add(node.get("Index Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collect(child, seqScans, indexes);
+        }
+    }
+
+    private static String describe(SearchFilters f) {
+        List<String> parts = new ArrayList<>();
+        if (f.query()            != null) parts.add("keyword");
+        if (f.city()             != null) parts.add("city");
+        if (f.category()         != null) parts.add("category");
+        if (f.area()             != null) parts.add("area");
+        if (f.subcategoryNames() != null) parts.add("subcategories");
+        if (f.hasGeoFilter())             parts.add("geo");
+        return parts.isEmpty() ? "no filters" : String.join(" + ", parts);
+    }
+}
@@ -0,0 +1,74 @@
+package com.proconnect.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("GeoGrid — unit tests")
+class GeoGridTest {
+
+    private record Pro(long id, double lat, double lng, String category, boolean available) {}
+
+    @Test
+    @DisplayName("within — same professionals, nearest first, as a Haversine scan over everyone")
+    void within_matchesBruteForce() {
+        Random random = new Random(7);
+        GeoGrid grid = new GeoGrid();
+        List<Pro> pros = new ArrayList<>();
+        for (long id = 1; id <= 2_000; id++) {
+            Pro p = new Pro(id, 12.9 + random.nextGaussian() * 0.2, 77.6 + random.nextGaussian() * 0.2,
+                random.nextBoolean() ? "Plumbing" : "Electrical", random.nextDouble() < 0.7);
+            pros.add(p);
+            grid.put(p.id(), p.lat(), p.lng(), p.category(), p.available());
+        }
+
+        for (double radius : new double[]{0.5, 3, 12, 60}) {
+            List<Long> expected = pros.stream()
+                .filter(p -> p.category().equals("Plumbing") && p.available())
+                .filter(p -> GeoMath.distanceKm(12.93, 77.62, p.lat(), p.lng()) < radius)
+                .sorted((a, b) -> Double.compare(
+                    GeoMath.distanceKm(12.93, 77.62, a.lat(), a.lng()), GeoMath.distanceKm(12.93, 77.62, b.lat(), b.lng())))
+                .map(Pro::id)
+                .toList();
+
+            List<GeoGrid.Neighbour> found = grid.within(12.93, 77.62, radius, "plumbing", true);
+
+            assertThat(found).extracting(GeoGrid.Neighbour::id).as("radius %s km", radius).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("put / remove — a move or an availability change takes effect immediately")
+    void put_movesAndRepartitions() {
+        GeoGrid grid = new GeoGrid();
+        grid.put(1L, 12.97, 77.59, "Plumbing", true);
+
+        grid.put(1L, 19.07, 72.87, "Plumbing", true);
+        assertThat(grid.within(12.97, 77.59, 5, null, null)).isEmpty();
+        assertThat(grid.within(19.07, 72.87, 5, null, null)).extracting(GeoGrid.Neighbour::id).containsExactly(1L);
+
+        grid.put(1L, 19.07, 72.87, "Plumbing", false);
+        assertThat(grid.within(19.07, 72.87, 5, "Plumbing", true)).isEmpty();
+        assertThat(grid.within(19.07, 72.87, 5, "Plumbing", false)).hasSize(1);
+
+        grid.remove(1L);
+        assertThat(grid.size()).isZero();
+        assertThat(grid.within(19.07, 72.87, 5, null, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("within — a circle crossing the antimeridian finds points on both sides")
+    void within_wrapsAroundAntimeridian() {
+        GeoGrid grid = new GeoGrid();
+        grid.put(1L, -17.0, 179.98, null, true);
+        grid.put(2L, -17.0, -179.98, null, true);
+
+        assertThat(grid.within(-17.0, 179.99, 10, null, null))
+            .extracting(GeoGrid.Neighbour::id).containsExactlyInAnyOrder(1L, 2L);
+    }
+}
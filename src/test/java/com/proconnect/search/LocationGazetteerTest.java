@@ -0,0 +1,59 @@
+package com.proconnect.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LocationGazetteer — unit tests")
+class LocationGazetteerTest {
+
+    private final LocationGazetteer gazetteer = new LocationGazetteer();
+
+    private static SearchDocument doc(long id, String city, List<String> areas) {
+        return new SearchDocument(id, "Pro " + id, "Headline", "Plumbing", List.of(), List.of(), areas,
+            city, "Karnataka", "India", false, true, null, null, 4.0, 1, Set.of());
+    }
+
+    @BeforeEach
+    void setUp() {
+        gazetteer.onDocumentChanged(null, doc(1L, "Bengaluru", List.of("Indiranagar", "Koramangala")));
+        gazetteer.onDocumentChanged(null, doc(2L, "Bengaluru", List.of("Indiranagar")));
+    }
+
+    @Test
+    @DisplayName("resolve — exact names ignore case, near misses resolve by trigram similarity")
+    void resolve_exactAndFuzzy() {
+        assertThat(gazetteer.resolve("INDIRANAGAR")).get()
+            .extracting(LocationGazetteer.Match::name, LocationGazetteer.Match::kind)
+            .containsExactly("Indiranagar", LocationGazetteer.Kind.AREA);
+        assertThat(gazetteer.resolve("koramangla")).get()
+            .extracting(LocationGazetteer.Match::name).isEqualTo("Koramangala");
+        assertThat(gazetteer.resolve("bengaluru")).get()
+            .extracting(LocationGazetteer.Match::kind).isEqualTo(LocationGazetteer.Kind.CITY);
+        assertThat(gazetteer.resolve("xyz")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("splitTrailing — peels a trailing location off the keyword")
+    void splitTrailing_separatesKeywordAndLocation() {
+        LocationGazetteer.Split split = gazetteer.splitTrailing("java developer indiranagar").orElseThrow();
+
+        assertThat(split.keyword()).isEqualTo("java developer");
+        assertThat(split.location().name()).isEqualTo("Indiranagar");
+        assertThat(gazetteer.splitTrailing("java developer")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("onDocumentChanged — a name disappears only when its last professional drops it")
+    void onDocumentChanged_refCountsNames() {
+        gazetteer.onDocumentChanged(doc(1L, "Bengaluru", List.of("Indiranagar", "Koramangala")), null);
+
+        assertThat(gazetteer.resolve("Indiranagar")).isPresent();
+        assertThat(gazetteer.resolve("Koramangala")).isEmpty();
+    }
+}
@@ -0,0 +1,153 @@
+package com.proconnect.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProfessionalSearchIndex — unit tests")
+class ProfessionalSearchIndexTest {
+
+    @Mock SearchDocumentLoader loader;
+    @Mock ObjectProvider<SearchDocumentListener> listeners;
+
+    private ProfessionalSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProfessionalSearchIndex(loader, listeners);
+        index.apply(1L, doc(1L, "Licensed plumber", "Plumbing", "Bengaluru", List.of("Indiranagar"), true, 4.8));
+        index.apply(2L, doc(2L, "Residential electrician", "Electrical", "Bengaluru", List.of("Koramangala"), true, 4.2));
+        index.apply(3L, doc(3L, "Plumbing and tiling", "Plumbing", "Mumbai", List.of("Andheri"), false, 3.9));
+    }
+
+    private static SearchDocument doc(long id, String headline, String category, String city,
+                                      List<String> areas, boolean available, double rating) {
+        return new SearchDocument(id, "Pro " + id, headline, category, List.of(), List.of(), areas,
+            city, "State", "India", false, available, 12.97, 77.64, rating, 1, Set.of());
+    }
+
+    private static SearchFilters filters(String query, String city, String category, String area, Boolean available) {
+        return new SearchFilters(query, city, null, null, null, available, category, area, null, null, null, 3.0);
+    }
+
+    /** The memory backend's path: full match set, then one ranked page of it */
+    private ProfessionalSearchIndex.Result search(SearchFilters filters, int offset, int limit) {
+        return ProfessionalSearchIndex.page(index.match(filters), offset, limit);
+    }
+
+    private static List<Long> ids(ProfessionalSearchIndex.Result result) {
+        return result.hits().stream().map(ProfessionalSearchIndex.Hit::id).toList();
+    }
+
+    @Test
+    @DisplayName("match + page — stemmed and prefix terms match every variant, best rating first on ties")
+    void search_prefixAndStem_matchesVariants() {
+        ProfessionalSearchIndex.Result result = search(filters("plumbers", null, null, null, null), 0, 10);
+
+        assertThat(ids(result)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(result.total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("match + page — misspelt keyword still matches via trigram fuzziness")
+    void search_typo_matchesFuzzily() {
+        ProfessionalSearchIndex.Result result = search(filters("electrican", null, null, null, null), 0, 10);
+
+        assertThat(ids(result)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("match + page — category, area and availability filters are applied")
+    void search_filters_narrowResults() {
+        assertThat(ids(search(filters(null, null, "plumbing", null, true), 0, 10))).containsExactly(1L);
+        assertThat(ids(search(filters(null, null, null, "indiranagar", null), 0, 10))).containsExactly(1L);
+        assertThat(ids(search(filters(null, "Bengaluru", null, null, null), 0, 10))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("match + page — paging returns the requested slice and the full total")
+    void search_paging_returnsSliceAndTotal() {
+        ProfessionalSearchIndex.Result result = search(filters(null, null, null, null, null), 1, 1);
+
+        assertThat(ids(result)).containsExactly(2L);
+        assertThat(result.total()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("apply(null) — removes the professional from postings and document store")
+    void apply_null_removesDocument() {
+        index.apply(1L, null);
+
+        assertThat(index.get(1L)).isNull();
+        assertThat(ids(search(filters("plumber", null, null, null, null), 0, 10))).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("relocate — moves the professional on the geo grid and keeps the rest of the document")
+    void relocate_movesOnGeoGrid() {
+        index.relocate(2L, 19.07, 72.87);   // Bengaluru → Mumbai
+
+        assertThat(index.nearby(19.07, 72.87, 5, null, null)).extracting(GeoGrid.Neighbour::id).containsExactly(2L);
+        assertThat(index.nearby(12.97, 77.64, 5, null, null)).extracting(GeoGrid.Neighbour::id).containsExactly(1L, 3L);
+        assertThat(index.get(2L).headline()).isEqualTo("Residential electrician");
+        assertThat(ids(search(filters("electrician", null, null, null, null), 0, 10))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("match + page — sort=distance ranks nearest first and every hit carries its distance")
+    void search_sortByDistance() {
+        index.relocate(1L, 12.99, 77.64);   // ~2.2 km north of the others
+        SearchFilters near = new SearchFilters(null, null, null, null, null, null, null, null, null,
+            12.97, 77.64, 5.0, SearchSort.DISTANCE);
+
+        ProfessionalSearchIndex.Result result = search(near, 0, 10);
+
+        assertThat(ids(result)).containsExactly(2L, 3L, 1L);
+        assertThat(result.hits().get(2).distanceKm()).isCloseTo(2.22, within(0.01));
+        assertThat(ids(search(filters(null, null, null, null, null), 0, 10))).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("apply — concurrent changes reach listeners in the order they were made")
+    void apply_concurrentChanges_notifyInOrder() throws InterruptedException {
+        List<String> broken = new ArrayList<>();
+        SearchDocumentListener chain = new SearchDocumentListener() {
+            private SearchDocument last = index.get(1L);
+
+            @Override
+            public synchronized void onDocumentChanged(SearchDocument previous, SearchDocument current) {
+                if (previous != last) broken.add(previous.headline() + " after " + last.headline());
+                last = current;
+            }
+        };
+        when(listeners.orderedStream()).thenAnswer(inv -> Stream.of(chain));
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 2_000; i++) {
+            SearchDocument next = doc(1L, "Plumber " + i, "Plumbing", "Bengaluru", List.of("Indiranagar"), true, 4.8);
+            pool.execute(() -> index.apply(1L, next));
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        synchronized (chain) {
+            assertThat(broken).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.proconnect.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SearchCursor — unit tests")
+class SearchCursorTest {
+
+    @Test
+    @DisplayName("encode/decode — round-trips exactly; malformed tokens decode to empty")
+    void encodeDecode_roundTrips() {
+        SearchCursor cursor = new SearchCursor(0.0759909, -1, 42L);
+
+        assertThat(SearchCursor.decode(cursor.encode())).contains(cursor);
+        assertThat(SearchCursor.decode("not-a-cursor")).isEmpty();
+        assertThat(SearchCursor.decode(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("precedes — walking a ranked list by cursor visits every hit once, in order")
+    void precedes_followsRankingOrder() {
+        List<ProfessionalSearchIndex.Hit> ranked = List.of(
+            new ProfessionalSearchIndex.Hit(7L, 0.9, 4.0),
+            new ProfessionalSearchIndex.Hit(3L, 0.5, 4.5),
+            new ProfessionalSearchIndex.Hit(2L, 0.5, 4.5),
+            new ProfessionalSearchIndex.Hit(9L, 0.5, 3.0),
+            new ProfessionalSearchIndex.Hit(1L, 0.1, 5.0)
+        ).stream().sorted(Comparator.comparingDouble(ProfessionalSearchIndex.Hit::score).reversed()
+            .thenComparing(Comparator.comparingDouble(ProfessionalSearchIndex.Hit::rating).reversed())
+            .thenComparingLong(ProfessionalSearchIndex.Hit::id)).toList();
+
+        SearchCursor after = SearchCursor.after(ranked.get(1));
+
+        assertThat(ranked.stream().filter(after::precedes).map(ProfessionalSearchIndex.Hit::id))
+            .containsExactly(3L, 9L, 1L);
+    }
+
+    @Test
+    @DisplayName("precedes — an unrated row's cursor from SQL resumes correctly over index hits")
+    void precedes_unratedMatchesSqlSentinel() {
+        // SQL ranks an unrated professional with COALESCE(rating, NO_RATING) — below a real 0.0
+        SearchCursor fromSql = new SearchCursor(0.5, SearchCursor.NO_RATING, 4L);
+
+        assertThat(fromSql.precedes(new ProfessionalSearchIndex.Hit(8L, 0.5, 0.0))).isFalse();
+        assertThat(fromSql.precedes(new ProfessionalSearchIndex.Hit(2L, 0.5, SearchCursor.NO_RATING))).isFalse();
+        assertThat(fromSql.precedes(new ProfessionalSearchIndex.Hit(6L, 0.5, SearchCursor.NO_RATING))).isTrue();
+    }
+}
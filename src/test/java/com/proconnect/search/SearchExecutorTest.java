@@ -0,0 +1,68 @@
+package com.proconnect.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SearchExecutor — unit tests")
+class SearchExecutorTest {
+
+    private final SearchExecutor executor = new SearchExecutor(2, 1);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("join — returns the read's result within its deadline")
+    void join_returnsResult() {
+        SearchExecutor.Branch<Long> count = executor.fork("count", () -> 42L, 1_000);
+
+        assertThat(count.join()).contains(42L);
+        assertThat(count.missed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("join — a read past its deadline or failing comes back empty instead of throwing")
+    void join_degradesOnTimeoutAndFailure() {
+        CountDownLatch never = new CountDownLatch(1);
+        SearchExecutor.Branch<String> slow = executor.fork("facets", () -> {
+            never.await(5, TimeUnit.SECONDS);
+            return "late";
+        }, 50);
+        SearchExecutor.Branch<String> broken = executor.fork("facets", () -> {
+            throw new IllegalStateException("db down");
+        }, 1_000);
+
+        assertThat(slow.join()).isEmpty();
+        assertThat(slow.missed()).isTrue();
+        assertThat(broken.join()).isEmpty();
+        assertThat(broken.missed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("fork — with the pool and queue full, the caller runs the read itself")
+    void fork_callerRunsWhenSaturated() throws Exception {
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch hold = new CountDownLatch(1);
+        for (int i = 0; i < 2; i++) {
+            executor.fork("busy", () -> {
+                running.countDown();
+                return hold.await(5, TimeUnit.SECONDS);
+            }, 5_000);
+        }
+        running.await(5, TimeUnit.SECONDS);
+        executor.fork("queued", () -> hold.await(5, TimeUnit.SECONDS), 5_000);   // takes the one queue slot
+
+        SearchExecutor.Branch<String> overflow = executor.fork("count", () -> Thread.currentThread().getName(), 1_000);
+
+        assertThat(overflow.join()).contains(Thread.currentThread().getName());
+        hold.countDown();
+    }
+}
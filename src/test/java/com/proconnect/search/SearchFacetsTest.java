@@ -0,0 +1,53 @@
+package com.proconnect.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SearchFacets — unit tests")
+class SearchFacetsTest {
+
+    private final SearchFacets facets = new SearchFacets();
+
+    private static SearchDocument doc(long id, String category, String city, List<String> areas) {
+        return new SearchDocument(id, "Pro " + id, "Headline", category, List.of(), List.of(), areas,
+            city, "State", "India", false, true, null, null, 4.0, 1, Set.of());
+    }
+
+    @Test
+    @DisplayName("global — counts are adjusted incrementally on insert, update and delete")
+    void global_tracksIncrementalChanges() {
+        SearchDocument a = doc(1L, "Plumbing", "Bengaluru", List.of("Indiranagar", "Indiranagar"));
+        SearchDocument b = doc(2L, "Plumbing", "Mumbai", List.of("Andheri"));
+        facets.onDocumentChanged(null, a);
+        facets.onDocumentChanged(null, b);
+
+        assertThat(facets.global().categories()).containsEntry("Plumbing", 2L);
+        assertThat(facets.global().areas()).containsEntry("Indiranagar", 1L);
+
+        facets.onDocumentChanged(b, doc(2L, "Electrical", "Mumbai", List.of("Andheri")));
+        facets.onDocumentChanged(a, null);
+
+        assertThat(facets.global().categories()).containsExactlyEntriesOf(Map.of("Electrical", 1L));
+        assertThat(facets.global().cities()).containsOnlyKeys("Mumbai");
+        assertThat(facets.global().areas()).doesNotContainKey("Indiranagar");
+    }
+
+    @Test
+    @DisplayName("forDocuments — counts only the given result set, highest count first")
+    void forDocuments_restrictsToResultSet() {
+        SearchFacets.Facets result = facets.forDocuments(List.of(
+            doc(1L, "Plumbing", "Bengaluru", List.of("Indiranagar")),
+            doc(2L, "Plumbing", "Bengaluru", List.of("Koramangala")),
+            doc(3L, "Electrical", "Bengaluru", List.of("Indiranagar"))));
+
+        assertThat(result.categories().keySet()).containsExactly("Plumbing", "Electrical");
+        assertThat(result.cities()).containsEntry("Bengaluru", 3L);
+        assertThat(result.areas()).containsEntry("Indiranagar", 2L).containsEntry("Koramangala", 1L);
+    }
+}
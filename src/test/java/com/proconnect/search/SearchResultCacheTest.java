@@ -0,0 +1,140 @@
+package com.proconnect.search;
+
+import com.proconnect.dto.ProfessionalCardDTO;
+import com.proconnect.dto.ProfessionalDTO;
+import com.proconnect.dto.ProfessionalSearchCriteria;
+import com.proconnect.dto.SearchResultDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SearchResultCache — unit tests")
+class SearchResultCacheTest {
+
+    @SuppressWarnings("unchecked")
+    private final SearchResultCache cache = new SearchResultCache(
+        new ProfessionalSearchIndex(mock(SearchDocumentLoader.class), mock(ObjectProvider.class)));
+
+    private static SearchDocument doc(long id, String category, String city) {
+        return new SearchDocument(id, "Pro " + id, "Headline", category, List.of(), List.of(), List.of(),
+            city, "Karnataka", "India", false, true, null, null, 4.0, 1, Set.of());
+    }
+
+    private static SearchFilters filters(String category, String city) {
+        return new SearchFilters(null, city, null, null, null, null, category, null, null, null, null, 3.0);
+    }
+
+    private static SearchResultDTO result(long id) {
+        ProfessionalDTO dto = new ProfessionalDTO();
+        dto.setId(id);
+        return SearchResultDTO.builder().results(List.of(dto)).build();
+    }
+
+    private static SearchResultCache.Key key(String city) {
+        return SearchResultCache.Key.of(ProfessionalSearchCriteria.builder().city(city).build());
+    }
+
+    @Test
+    @DisplayName("Key.of — equivalent filters canonicalise to the same key")
+    void key_canonicalisesCriteria() {
+        ProfessionalSearchCriteria a = ProfessionalSearchCriteria.builder()
+            .query("electrician").city("Bengaluru").state(" Karnataka").subcategories(List.of("Wiring", "fans"))
+            .lat(12.97161).lng(77.59461).build();
+        ProfessionalSearchCriteria b = ProfessionalSearchCriteria.builder()
+            .query("electrician").city("Bengaluru").state("karnataka").subcategories(List.of("FANS", "wiring"))
+            .lat(12.97161).lng(77.59461).build();
+
+        assertThat(SearchResultCache.Key.of(a)).isEqualTo(SearchResultCache.Key.of(b));
+    }
+
+    @Test
+    @DisplayName("Key.of — echoed text and coordinates are kept exact")
+    void key_keepsEchoedFieldsAndCoordinates() {
+        ProfessionalSearchCriteria base = ProfessionalSearchCriteria.builder()
+            .query("electrician").city("Bengaluru").lat(12.97161).lng(77.59461).build();
+        ProfessionalSearchCriteria casing = ProfessionalSearchCriteria.builder()
+            .query("Electrician").city("bengaluru").lat(12.97161).lng(77.59461).build();
+        ProfessionalSearchCriteria nearby = ProfessionalSearchCriteria.builder()
+            .query("electrician").city("Bengaluru").lat(12.97179).lng(77.59472).build();
+
+        assertThat(SearchResultCache.Key.of(casing)).isNotEqualTo(SearchResultCache.Key.of(base));
+        assertThat(SearchResultCache.Key.of(nearby)).isNotEqualTo(SearchResultCache.Key.of(base));
+    }
+
+    @Test
+    @DisplayName("Key.of — card and full views of the same search are separate entries")
+    void key_distinguishesView() {
+        ProfessionalSearchCriteria full = ProfessionalSearchCriteria.builder().city("Pune").build();
+        ProfessionalSearchCriteria card = ProfessionalSearchCriteria.builder().city("Pune").view("CARD").build();
+
+        assertThat(SearchResultCache.Key.of(card)).isNotEqualTo(SearchResultCache.Key.of(full));
+    }
+
+    @Test
+    @DisplayName("onDocumentChanged — card pages are invalidated by the professionals on them")
+    void onDocumentChanged_invalidatesCardPage() {
+        ProfessionalCardDTO card = new ProfessionalCardDTO();
+        card.setId(7L);
+        SearchResultCache.Key key = SearchResultCache.Key.of(
+            ProfessionalSearchCriteria.builder().city("Mumbai").view("card").build());
+        cache.put(key, filters(null, "Mumbai"), SearchResultDTO.builder().cards(List.of(card)).build(), cache.generation());
+
+        cache.onDocumentChanged(doc(7L, "Plumbing", "Pune"), null);
+
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("onDocumentChanged — drops only entries the changed professional could affect")
+    void onDocumentChanged_invalidatesSelectively() {
+        cache.put(key("Bengaluru"), filters("Plumbing", "Bengaluru"), result(1L), cache.generation());
+        cache.put(key("Mumbai"),    filters("Plumbing", "Mumbai"),    result(2L), cache.generation());
+
+        cache.onDocumentChanged(null, doc(3L, "Plumbing", "Bengaluru"));
+
+        assertThat(cache.get(key("Bengaluru"))).isNull();
+        assertThat(cache.get(key("Mumbai"))).isNotNull();
+
+        cache.onDocumentChanged(doc(2L, "Plumbing", "Mumbai"), doc(2L, "Electrical", "Pune"));
+        assertThat(cache.get(key("Mumbai"))).isNull();
+    }
+
+    @Test
+    @DisplayName("onDocumentMoved — drops only geo searches around the old or new position")
+    void onDocumentMoved_invalidatesNearbyGeoSearchesOnly() {
+        SearchResultCache.Key near = SearchResultCache.Key.of(
+            ProfessionalSearchCriteria.builder().lat(12.97).lng(77.59).radiusKm(3.0).build());
+        SearchResultCache.Key far = SearchResultCache.Key.of(
+            ProfessionalSearchCriteria.builder().lat(19.07).lng(72.87).radiusKm(3.0).build());
+        SearchFilters geo = new SearchFilters(null, null, null, null, null, null, null, null, null, 12.97, 77.59, 3.0);
+        cache.put(near, geo, result(1L), cache.generation());
+        cache.put(far, geo, result(1L), cache.generation());
+        cache.put(key("Bengaluru"), filters("Plumbing", "Bengaluru"), result(1L), cache.generation());
+        long generation = cache.generation();
+
+        SearchDocument before = doc(1L, "Plumbing", "Bengaluru").withLocation(12.90, 77.50);
+        cache.onDocumentMoved(before, before.withLocation(12.971, 77.591));
+
+        assertThat(cache.get(near)).isNull();
+        assertThat(cache.get(far)).isNotNull();
+        assertThat(cache.get(key("Bengaluru"))).isNotNull();
+        assertThat(cache.generation()).isEqualTo(generation);
+    }
+
+    @Test
+    @DisplayName("put — a result computed across an invalidation is not stored")
+    void put_skipsStaleResult() {
+        long generation = cache.generation();
+        cache.onDocumentChanged(null, doc(5L, "Plumbing", "Pune"));
+
+        cache.put(key("Pune"), filters("Plumbing", "Pune"), result(5L), generation);
+
+        assertThat(cache.get(key("Pune"))).isNull();
+    }
+}
@@ -0,0 +1,59 @@
+package com.proconnect.search;
+
+import com.proconnect.repository.CategoryRepository;
+import com.proconnect.repository.SubcategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SuggestionIndex — unit tests")
+class SuggestionIndexTest {
+
+    private final SuggestionIndex index =
+        new SuggestionIndex(mock(CategoryRepository.class), mock(SubcategoryRepository.class));
+
+    private static SearchDocument doc(long id, String name, List<String> areas, double rating) {
+        return new SearchDocument(id, name, "Headline", "Plumbing", List.of("Drain Cleaning"), List.of(), areas,
+            "Bengaluru", "Karnataka", "India", false, true, null, null, rating, 1, Set.of());
+    }
+
+    @BeforeEach
+    void setUp() {
+        index.addCatalogName(SuggestionIndex.Kind.SUBCATEGORY, "Tap & Fixture Repair");
+        index.onDocumentChanged(null, doc(1L, "Ravi Kumar", List.of("HSR Layout", "Koramangala"), 4.5));
+        index.onDocumentChanged(null, doc(2L, "Rahul Rao",  List.of("HSR Layout"), 4.9));
+    }
+
+    @Test
+    @DisplayName("suggest — matches the start of any word; terms rank by professionals covered")
+    void suggest_wordPrefixesRankedByCount() {
+        assertThat(index.suggest("lay", 5))
+            .extracting(SuggestionIndex.Suggestion::text, SuggestionIndex.Suggestion::count)
+            .containsExactly(tuple("HSR Layout", 2));
+        assertThat(index.suggest("ra", 5))
+            .extracting(SuggestionIndex.Suggestion::text, SuggestionIndex.Suggestion::professionalId)
+            .containsExactly(tuple("Rahul Rao", 2L), tuple("Ravi Kumar", 1L));
+        assertThat(index.suggest("FIX", 5))
+            .extracting(SuggestionIndex.Suggestion::kind)
+            .containsExactly(SuggestionIndex.Kind.SUBCATEGORY);
+    }
+
+    @Test
+    @DisplayName("onDocumentChanged — names go when their last professional does; catalog names stay")
+    void onDocumentChanged_releasesUnreferencedNames() {
+        index.suggest("kor", 5);   // cached ranking must not survive the change
+
+        index.onDocumentChanged(doc(1L, "Ravi Kumar", List.of("HSR Layout", "Koramangala"), 4.5), null);
+
+        assertThat(index.suggest("kor", 5)).isEmpty();
+        assertThat(index.suggest("hsr", 5)).extracting(SuggestionIndex.Suggestion::count).containsExactly(1);
+        assertThat(index.suggest("ravi", 5)).isEmpty();
+        assertThat(index.suggest("tap", 5)).hasSize(1);
+    }
+}
@@ -0,0 +1,124 @@
+package com.proconnect.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClusterEventBus — unit tests")
+class ClusterEventBusTest {
+
+    @Mock JdbcTemplate              jdbcTemplate;
+    @Mock ApplicationEventPublisher eventPublisher;
+    @Mock DataSourceProperties      dataSourceProperties;
+    @Mock PreparedStatement         statement;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ClusterEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new ClusterEventBus(jdbcTemplate, objectMapper, eventPublisher, dataSourceProperties, true);
+    }
+
+    @Test
+    @DisplayName("publish — delivers on this instance at once and NOTIFYs the others; its own echo is ignored")
+    void publish_localThenNotify() throws Exception {
+        bus.publish(ClusterEvent.NEW_JOB, List.of(1L, 2L), Map.of("id", 42));
+
+        ArgumentCaptor<ClusterEvent> local = ArgumentCaptor.forClass(ClusterEvent.class);
+        verify(eventPublisher).publishEvent(local.capture());
+        assertThat(local.getValue().remote()).isFalse();
+        assertThat(local.getValue().professionalIds()).containsExactly(1L, 2L);
+
+        String payload = sentPayloads().get(0);
+        bus.receive(payload);
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("receive — a notification from another instance becomes a remote ClusterEvent")
+    void receive_fromOtherInstance() {
+        bus.receive("""
+            {"origin":"other-node","type":"new-booking","professionalIds":[7],"data":{"id":3}}
+            """);
+
+        ArgumentCaptor<ClusterEvent> event = ArgumentCaptor.forClass(ClusterEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().remote()).isTrue();
+        assertThat(event.getValue().type()).isEqualTo(ClusterEvent.NEW_BOOKING);
+        assertThat(event.getValue().professionalIds()).containsExactly(7L);
+        assertThat(event.getValue().data().path("id").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("publish — recipients are split across several NOTIFYs when one would exceed the payload limit")
+    void publish_splitsLargePayloads() throws Exception {
+        List<Long> ids = LongStream.range(1_000_000_000L, 1_000_001_500L).boxed().toList();
+
+        bus.publish(ClusterEvent.NEW_JOB, ids, Map.of("id", 42));
+
+        List<String> payloads = sentPayloads();
+        assertThat(payloads).hasSizeGreaterThan(1);
+        assertThat(payloads).allSatisfy(p -> assertThat(p.length()).isLessThan(8000));
+        long delivered = 0;
+        for (String p : payloads) delivered += objectMapper.readTree(p).path("professionalIds").size();
+        assertThat(delivered).isEqualTo(ids.size());
+    }
+
+    @Test
+    @DisplayName("publish — data too large for any NOTIFY goes out as one small refetch event")
+    void publish_oversizedDataSendsRefetch() throws Exception {
+        bus.publish(ClusterEvent.NEW_JOB, List.of(1L, 2L, 3L), Map.of("id", 42, "description", "x".repeat(9000)));
+
+        List<String> payloads = sentPayloads();
+        assertThat(payloads).hasSize(1);
+        var sent = objectMapper.readTree(payloads.get(0));
+        assertThat(sent.path("type").asText()).isEqualTo(ClusterEvent.REFETCH);
+        assertThat(sent.path("professionalIds")).hasSize(3);
+        assertThat(sent.path("data").path("type").asText()).isEqualTo(ClusterEvent.NEW_JOB);
+        assertThat(sent.path("data").path("id").asLong()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("publish — disabled, delivers on this instance only")
+    void publish_disabled() {
+        bus = new ClusterEventBus(jdbcTemplate, objectMapper, eventPublisher, dataSourceProperties, false);
+
+        bus.publish(ClusterEvent.NEW_BOOKING, List.of(1L), Map.of("id", 1));
+
+        verify(eventPublisher).publishEvent(any(ClusterEvent.class));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    /** Runs every captured NOTIFY callback against a mock statement and returns the payloads */
+    @SuppressWarnings("unchecked")
+    private List<String> sentPayloads() throws Exception {
+        ArgumentCaptor<PreparedStatementCallback<Boolean>> callbacks = ArgumentCaptor.forClass(PreparedStatementCallback.class);
+        verify(jdbcTemplate, atLeastOnce()).execute(eq("SELECT pg_notify(?, ?)"), callbacks.capture());
+        for (PreparedStatementCallback<Boolean> callback : callbacks.getAllValues()) {
+            callback.doInPreparedStatement(statement);
+        }
+        ArgumentCaptor<String> payloads = ArgumentCaptor.forClass(String.class);
+        verify(statement, atLeastOnce()).setString(eq(2), payloads.capture());
+        return payloads.getAllValues();
+    }
+}
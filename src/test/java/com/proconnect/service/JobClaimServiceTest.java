@@ -0,0 +1,91 @@
+package com.proconnect.service;
+
+import com.proconnect.entity.JobPost;
+import com.proconnect.entity.Professional;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobClaimService — unit tests")
+class JobClaimServiceTest {
+
+    @Mock JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JobClaimService claimService;
+
+    @BeforeEach
+    void setUp() {
+        claimService = new JobClaimService(jdbcTemplate, meterRegistry, 300_000);
+    }
+
+    @Test
+    @DisplayName("claim — the first tap wins; later taps by others are rejected without a DB round trip")
+    void claim_gateRejectsLosers() {
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<JobPost>>any(), any(), any(), any()))
+            .thenReturn(List.of(acceptedJob(10L, 1L)));
+
+        JobPost job = claimService.claim(10L, 1L);
+
+        assertThat(job.getStatus()).isEqualTo("ACCEPTED");
+        assertThat(job.getAcceptedBy().getId()).isEqualTo(1L);
+        assertThatThrownBy(() -> claimService.claim(10L, 2L))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        verify(jdbcTemplate, times(1)).query(anyString(), ArgumentMatchers.<RowMapper<JobPost>>any(), any(), any(), any());
+
+        assertThat(meterRegistry.get("jobs.accept").tag("outcome", "accepted").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jobs.accept").tag("outcome", "lost_gate").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("claim — no row back from the conditional UPDATE reports why the job is unavailable")
+    void claim_dbMiss() {
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<JobPost>>any(), any(), any(), any()))
+            .thenReturn(List.of());
+        when(jdbcTemplate.queryForList(anyString(), eq(10L)))
+            .thenReturn(List.of(Map.of("status", "ACCEPTED")));
+
+        assertThatThrownBy(() -> claimService.claim(10L, 1L))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("status=ACCEPTED");
+        assertThat(meterRegistry.get("jobs.accept").tag("outcome", "lost_db").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("claim — a DB failure releases the gate so the next tap can retry")
+    void claim_failureReleasesGate() {
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<JobPost>>any(), any(), any(), any()))
+            .thenThrow(new QueryTimeoutException("timeout"))
+            .thenReturn(List.of(acceptedJob(10L, 2L)));
+
+        assertThatThrownBy(() -> claimService.claim(10L, 1L)).isInstanceOf(RuntimeException.class);
+        assertThat(claimService.claim(10L, 2L).getAcceptedBy().getId()).isEqualTo(2L);
+    }
+
+    private static JobPost acceptedJob(Long jobId, Long professionalId) {
+        Professional pro = new Professional();
+        pro.setId(professionalId);
+        JobPost job = new JobPost();
+        job.setId(jobId);
+        job.setStatus("ACCEPTED");
+        job.setAcceptedBy(pro);
+        return job;
+    }
+}
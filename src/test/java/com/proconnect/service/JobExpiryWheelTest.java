@@ -0,0 +1,59 @@
+package com.proconnect.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JobExpiryWheel — unit tests")
+class JobExpiryWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("advance — returns a job once its deadline is reached, never before")
+    void advance_neverEarly() {
+        JobExpiryWheel wheel = new JobExpiryWheel(1000, 8, START);
+        wheel.schedule(1L, START + 2500);
+
+        assertThat(wheel.advance(START + 2999)).isEmpty();
+        assertThat(wheel.advance(START + 3000)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("advance — deadlines more than one revolution away wait for their own round")
+    void advance_multipleRounds() {
+        JobExpiryWheel wheel = new JobExpiryWheel(1000, 8, START);
+        wheel.schedule(1L, START + 3000);
+        wheel.schedule(2L, START + 11_000);   // same bucket, next revolution
+
+        assertThat(wheel.advance(START + 3000)).containsExactly(1L);
+        assertThat(wheel.advance(START + 10_000)).isEmpty();
+        assertThat(wheel.advance(START + 11_000)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("advance — after a long pause everything overdue comes out in one call")
+    void advance_afterPause() {
+        JobExpiryWheel wheel = new JobExpiryWheel(1000, 8, START);
+        for (long id = 1; id <= 20; id++) wheel.schedule(id, START + id * 1000);
+
+        assertThat(wheel.advance(START + 60_000)).hasSize(20);
+    }
+
+    @Test
+    @DisplayName("schedule — a past deadline is due on the next tick; cancel and reschedule replace it")
+    void schedule_pastAndCancel() {
+        JobExpiryWheel wheel = new JobExpiryWheel(1000, 8, START);
+        wheel.schedule(1L, START - 60_000);
+        wheel.schedule(2L, START + 2000);
+        wheel.schedule(2L, START + 5000);
+        wheel.schedule(3L, START + 1000);
+
+        assertThat(wheel.cancel(3L)).isTrue();
+        assertThat(wheel.cancel(3L)).isFalse();
+        assertThat(wheel.advance(START + 2000)).containsExactly(1L);
+        assertThat(wheel.advance(START + 5000)).containsExactly(2L);
+    }
+}
@@ -0,0 +1,76 @@
+package com.proconnect.service;
+
+import com.proconnect.search.ProfessionalSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocationUpdateBuffer — unit tests")
+class LocationUpdateBufferTest {
+
+    @Mock JdbcTemplate               jdbcTemplate;
+    @Mock PlatformTransactionManager transactionManager;
+    @Mock ProfessionalSearchIndex    searchIndex;
+
+    private LocationUpdateBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new LocationUpdateBuffer(jdbcTemplate, transactionManager, searchIndex, false);
+    }
+
+    @Test
+    @DisplayName("record — keeps only the latest position per professional and moves the index every time")
+    void record_keepsLatest() {
+        buffer.record(7L, new BigDecimal("12.9"), new BigDecimal("77.6"));
+        buffer.record(7L, new BigDecimal("12.9352"), new BigDecimal("77.6245"));
+
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+        assertThat(buffer.latest(7L)).hasValueSatisfying(p -> {
+            assertThat(p.lat()).isEqualByComparingTo("12.9352");
+            assertThat(p.lng()).isEqualByComparingTo("77.6245");
+        });
+        verify(searchIndex).relocate(7L, 12.9352, 77.6245);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("flush — writes every pending professional in one statement, then nothing until the next ping")
+    void flush_oneStatement() {
+        buffer.record(1L, new BigDecimal("12.97"), new BigDecimal("77.64"));
+        buffer.record(2L, new BigDecimal("19.07"), new BigDecimal("72.87"));
+
+        buffer.flush();
+        buffer.flush();
+
+        verify(jdbcTemplate, times(1)).update(any(PreparedStatementCreator.class));
+        assertThat(buffer.pendingCount()).isZero();
+        assertThat(buffer.latest(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("flush — a failed write keeps the positions for the next run")
+    void flush_failure_keepsPending() {
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class)))
+            .thenThrow(new DataAccessResourceFailureException("connection refused"));
+        buffer.record(1L, new BigDecimal("12.97"), new BigDecimal("77.64"));
+
+        buffer.flush();
+
+        assertThat(buffer.latest(1L)).isPresent();
+    }
+}
@@ -0,0 +1,101 @@
+package com.proconnect.service;
+
+import com.proconnect.dto.JobPostDTO;
+import com.proconnect.entity.JobPost;
+import com.proconnect.repository.JobPostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OpenJobRegistry — unit tests")
+class OpenJobRegistryTest {
+
+    // Indiranagar, Bengaluru
+    private static final double LAT = 12.9716;
+    private static final double LNG = 77.6412;
+
+    @Mock JobPostRepository jobPostRepository;
+
+    private OpenJobRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new OpenJobRegistry(jobPostRepository, true);
+    }
+
+    @Test
+    @DisplayName("openJobsNear — only the category within range, newest first")
+    void openJobsNear_filters() {
+        registry.open(job(1L, "Plumber", LAT + 0.01, LNG, 10));
+        registry.open(job(2L, "Plumber", LAT, LNG + 0.01, 2));
+        registry.open(job(3L, "Electrician", LAT, LNG, 1));
+        registry.open(job(4L, "Plumber", LAT + 0.5, LNG, 1));   // ~55 km away
+
+        OpenJobRegistry.Snapshot snapshot = registry.openJobsNear(LAT, LNG, 5.0, "plumber");
+
+        assertThat(snapshot.jobs()).extracting(JobPostDTO::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("token — unchanged while the set is unchanged, different once a job is accepted")
+    void token_changesWithSet() {
+        registry.open(job(1L, "Plumber", LAT, LNG, 5));
+        registry.open(job(2L, "Plumber", LAT, LNG, 3));
+        String first = registry.openJobsNear(LAT, LNG, 5.0, "Plumber").token();
+
+        assertThat(registry.openJobsNear(LAT, LNG, 5.0, "Plumber").token()).isEqualTo(first);
+
+        registry.onJobClosed(new JobPostClosedEvent(job(2L, "Plumber", LAT, LNG, 3)));
+        OpenJobRegistry.Snapshot after = registry.openJobsNear(LAT, LNG, 5.0, "Plumber");
+
+        assertThat(after.jobs()).extracting(JobPostDTO::getId).containsExactly(1L);
+        assertThat(after.token()).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("openJobsNear — expired jobs are skipped even before the next resync")
+    void openJobsNear_skipsExpired() {
+        JobPost expired = job(1L, "Plumber", LAT, LNG, 40);
+        expired.setExpiresAt(LocalDateTime.now().minusMinutes(10));
+        registry.open(expired);
+
+        assertThat(registry.openJobsNear(LAT, LNG, 5.0, "Plumber").jobs()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("resync — replaces the registry with the DB's open jobs")
+    void resync_replaces() {
+        registry.open(job(1L, "Plumber", LAT, LNG, 5));   // accepted on another instance
+        when(jobPostRepository.findByStatusAndExpiresAtAfter(eq("OPEN"), any()))
+            .thenReturn(List.of(job(2L, "Plumber", LAT, LNG, 1)));
+
+        registry.loadOnStartup();
+
+        assertThat(registry.isReady()).isTrue();
+        assertThat(registry.openJobsNear(LAT, LNG, 5.0, "Plumber").jobs())
+            .extracting(JobPostDTO::getId).containsExactly(2L);
+    }
+
+    private static JobPost job(Long id, String category, double lat, double lng, int minutesAgo) {
+        JobPost job = new JobPost();
+        job.setId(id);
+        job.setCategory(category);
+        job.setLat(lat);
+        job.setLng(lng);
+        job.setStatus("OPEN");
+        job.setCreatedAt(LocalDateTime.now().minusMinutes(minutesAgo));
+        job.setExpiresAt(LocalDateTime.now().plusMinutes(30 - minutesAgo));
+        return job;
+    }
+}
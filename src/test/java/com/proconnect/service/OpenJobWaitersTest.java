@@ -0,0 +1,50 @@
+package com.proconnect.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OpenJobWaiters — unit tests")
+class OpenJobWaitersTest {
+
+    private final OpenJobWaiters waiters = new OpenJobWaiters(Duration.ofSeconds(30));
+
+    @Test
+    @DisplayName("wake — runs only the woken professional's parked requests")
+    void wake_onlyThatProfessional() {
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger other = new AtomicInteger();
+        waiters.park(1L, new DeferredResult<>(), first::incrementAndGet);
+        waiters.park(1L, new DeferredResult<>(), first::incrementAndGet);
+        waiters.park(2L, new DeferredResult<>(), other::incrementAndGet);
+
+        waiters.wake(1L);
+
+        assertThat(first).hasValue(2);
+        assertThat(other).hasValue(0);
+        assertThat(waiters.parkedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("wake — a failing request does not stop the others")
+    void wake_isolatesFailures() {
+        AtomicInteger woken = new AtomicInteger();
+        waiters.park(1L, new DeferredResult<>(), () -> { throw new IllegalStateException("boom"); });
+        waiters.park(1L, new DeferredResult<>(), woken::incrementAndGet);
+
+        assertThatCode(() -> waiters.wake(1L)).doesNotThrowAnyException();
+        assertThat(woken).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("clamp — caps the requested wait at the configured maximum")
+    void clamp_capsWait() {
+        assertThat(waiters.clamp(Duration.ofSeconds(25))).isEqualTo(Duration.ofSeconds(25));
+        assertThat(waiters.clamp(Duration.ofMinutes(5))).isEqualTo(Duration.ofSeconds(30));
+    }
+}
@@ -0,0 +1,73 @@
+package com.proconnect.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proconnect.exception.RateLimitException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProfessionalExportService — unit tests")
+class ProfessionalExportServiceTest {
+
+    @Mock DataSource                 dataSource;
+    @Mock PlatformTransactionManager transactionManager;
+
+    private ProfessionalExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ProfessionalExportService(dataSource, transactionManager, new ObjectMapper(), 1);
+    }
+
+    @Test
+    @DisplayName("open — rejects a second export while the only slot is held")
+    void open_rejectsWhenFull() {
+        exportService.open(null, newAsyncManager());
+
+        assertThatThrownBy(() -> exportService.open(null, newAsyncManager()))
+                .isInstanceOf(RateLimitException.class);
+    }
+
+    @Test
+    @DisplayName("open — frees the slot when the async request ends without streaming")
+    void open_releasesOnAsyncCompletion() throws Exception {
+        WebAsyncManager asyncManager = newAsyncManager();
+        exportService.open(null, asyncManager);
+
+        asyncManager.getCallableInterceptor(ProfessionalExportService.SLOT_INTERCEPTOR)
+                .afterCompletion(null, null);
+
+        assertThatCode(() -> exportService.open(null, newAsyncManager())).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("open — releases the slot at most once")
+    void open_releasesOnce() throws Exception {
+        WebAsyncManager asyncManager = newAsyncManager();
+        exportService.open(null, asyncManager);
+
+        var interceptor = asyncManager.getCallableInterceptor(ProfessionalExportService.SLOT_INTERCEPTOR);
+        interceptor.afterCompletion(null, null);
+        interceptor.afterCompletion(null, null);
+
+        exportService.open(null, newAsyncManager());
+        assertThatThrownBy(() -> exportService.open(null, newAsyncManager()))
+                .isInstanceOf(RateLimitException.class);
+    }
+
+    private static WebAsyncManager newAsyncManager() {
+        return WebAsyncUtils.getAsyncManager(new MockHttpServletRequest());
+    }
+}
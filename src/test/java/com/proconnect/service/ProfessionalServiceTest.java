@@ -0,0 +1,63 @@
+package com.proconnect.service;
+
+import com.proconnect.exception.ResourceNotFoundException;
+import com.proconnect.mapper.ProfessionalMapper;
+import com.proconnect.repository.ProfessionalRepository;
+import com.proconnect.search.ProfessionalSearchIndex;
+import com.proconnect.search.SearchDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProfessionalService — unit tests")
+class ProfessionalServiceTest {
+
+    private static final BigDecimal LAT = new BigDecimal("12.9716");
+    private static final BigDecimal LNG = new BigDecimal("77.6412");
+
+    @Mock ProfessionalRepository    professionalRepository;
+    @Mock ProfessionalMapper        professionalMapper;
+    @Mock ProfessionalSearchService searchService;
+    @Mock ApplicationEventPublisher eventPublisher;
+    @Mock LocationUpdateBuffer      locationUpdates;
+    @Mock ProfessionalSearchIndex   searchIndex;
+
+    @InjectMocks ProfessionalService professionalService;
+
+    @Test
+    @DisplayName("updateLocation — a professional known to the search index is buffered without a DB read")
+    void updateLocation_knownToIndex() {
+        when(locationUpdates.latest(1L)).thenReturn(Optional.empty());
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.get(1L)).thenReturn(mock(SearchDocument.class));
+
+        professionalService.updateLocation(1L, LAT, LNG);
+
+        verify(locationUpdates).record(1L, LAT, LNG);
+        verifyNoInteractions(professionalRepository);
+    }
+
+    @Test
+    @DisplayName("updateLocation — an unknown professional is a 404, nothing is buffered")
+    void updateLocation_unknown() {
+        when(locationUpdates.latest(99L)).thenReturn(Optional.empty());
+        when(searchIndex.isReady()).thenReturn(true);
+        when(professionalRepository.existsById(99L)).thenReturn(false);
+
+        assertThatThrownBy(() -> professionalService.updateLocation(99L, LAT, LNG))
+            .isInstanceOf(ResourceNotFoundException.class);
+        verify(locationUpdates, never()).record(any(), any(), any());
+    }
+}
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -32,6 +33,7 @@ class ReviewServiceTest {
     @Mock ReviewRepository          reviewRepository;
     @Mock BookingInquiryRepository  bookingInquiryRepository;
     @Mock ProfessionalRepository    professionalRepository;
+    @Mock ApplicationEventPublisher eventPublisher;
 
     @InjectMocks ReviewService reviewService;
 
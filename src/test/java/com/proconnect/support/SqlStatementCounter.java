@@ -0,0 +1,54 @@
+package com.proconnect.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Records the SQL statements Hibernate prepares on the current thread, so a test can put a
+ * ceiling on what one request costs and an N+1 regression fails the build.
+ *
+ * Register it on the test's context:
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector=com.proconnect.support.SqlStatementCounter}
+ * then wrap the call — {@code assertMaxStatements(4, "GET /api/professionals/1", () -> mockMvc.perform(…))}.
+ * MockMvc serves the request on the calling thread, so only that request's statements are counted.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    /** The statements {@code action} issued on this thread, in order. */
+    public static List<String> record(Action action) throws Exception {
+        STATEMENTS.get().clear();
+        try {
+            action.run();
+            return List.copyOf(STATEMENTS.get());
+        } finally {
+            STATEMENTS.remove();
+        }
+    }
+
+    /** Runs {@code action} and fails, listing every statement, if it issued more than {@code max}. */
+    public static List<String> assertMaxStatements(int max, String description, Action action) throws Exception {
+        List<String> statements = record(action);
+        assertThat(statements)
+            .as("%s issued %d SQL statements, budget is %d:%n%s",
+                description, statements.size(), max, String.join("\n---\n", statements))
+            .hasSizeLessThanOrEqualTo(max);
+        return statements;
+    }
+}
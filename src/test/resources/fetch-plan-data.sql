@@ -0,0 +1,17 @@
+-- Child rows for the seed professionals, so every association a profile shows has data
+-- Statement separator: ^^ (matches spring.sql.init.separator=^^)
+-- Loaded after schema.sql and seed.sql by ProfessionalQueryCountTest.
+
+INSERT INTO services (professional_id, title, price_min, price_max, currency, price_unit)
+SELECT p.id, s.title, 500, 1500, 'INR', 'per visit'
+FROM professionals p
+CROSS JOIN (VALUES ('Inspection'), ('Repair')) s(title) ^^
+
+INSERT INTO professional_service_areas (professional_id, area_name)
+SELECT p.id, p.city || ' ' || a.suffix
+FROM professionals p
+CROSS JOIN (VALUES ('Central'), ('North')) a(suffix) ^^
+
+INSERT INTO social_links (professional_id, platform, url)
+SELECT p.id, 'website', 'https://example.test/' || p.slug
+FROM professionals p ^^
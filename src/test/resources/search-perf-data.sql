@@ -0,0 +1,114 @@
+-- Synthetic search dataset for SearchQueryPlanPerfTest
+-- Statement separator: ^^ (matches spring.sql.init.separator=^^)
+-- Loaded after schema.sql and seed.sql (categories / subcategories come from the seed).
+-- Size: the perf.rows server setting — the test starts Postgres with -c perf.rows=<N>.
+-- Deterministic: setseed() fixes every random() below, so plans are comparable run to run.
+
+SELECT setseed(0.42) ^^
+
+-- ============================================================
+-- CITIES  (weighted towards the first rows — big metros dominate, like production)
+-- ============================================================
+CREATE TEMP TABLE perf_cities (idx INT, city TEXT, state TEXT, lat FLOAT8, lng FLOAT8) ^^
+INSERT INTO perf_cities VALUES
+    (0,  'Bengaluru', 'Karnataka',     12.9716, 77.5946),
+    (1,  'Mumbai',    'Maharashtra',   19.0760, 72.8777),
+    (2,  'Delhi',     'Delhi',         28.7041, 77.1025),
+    (3,  'Hyderabad', 'Telangana',     17.3850, 78.4867),
+    (4,  'Chennai',   'Tamil Nadu',    13.0827, 80.2707),
+    (5,  'Pune',      'Maharashtra',   18.5204, 73.8567),
+    (6,  'Kolkata',   'West Bengal',   22.5726, 88.3639),
+    (7,  'Ahmedabad', 'Gujarat',       23.0225, 72.5714),
+    (8,  'Jaipur',    'Rajasthan',     26.9124, 75.7873),
+    (9,  'Lucknow',   'Uttar Pradesh', 26.8467, 80.9462),
+    (10, 'Kochi',     'Kerala',         9.9312, 76.2673),
+    (11, 'Mysuru',    'Karnataka',     12.2958, 76.6394) ^^
+
+-- Named localities for the cities the test queries, numbered wards everywhere else
+CREATE TEMP TABLE perf_areas (city_idx INT, name TEXT) ^^
+INSERT INTO perf_areas VALUES
+    (0, 'Koramangala'), (0, 'Indiranagar'), (0, 'HSR Layout'), (0, 'Whitefield'), (0, 'Jayanagar'),
+    (0, 'BTM Layout'), (0, 'Malleshwaram'), (0, 'Electronic City'), (0, 'Marathahalli'), (0, 'Hebbal'),
+    (1, 'Andheri'), (1, 'Bandra'), (1, 'Powai'), (1, 'Dadar'), (1, 'Borivali'), (1, 'Chembur') ^^
+INSERT INTO perf_areas
+SELECT c.idx, c.city || ' Ward ' || w
+FROM perf_cities c, generate_series(1, 25) w ^^
+
+-- ============================================================
+-- PROFESSIONALS
+-- Slug and email are set explicitly: the slug trigger's uniqueness loop is quadratic on bulk loads.
+-- Positions spread over a 1° square around the city (~400 geo cells), so a 5 km circle covers
+-- well under 1% of the rows and the geo_cell index is the plan the radius queries should get.
+-- ============================================================
+INSERT INTO professionals (first_name, last_name, display_name, slug, headline, bio, city, state, country,
+                           remote, is_verified, is_available, rating, review_count, currency, email,
+                           category_id, latitude, longitude)
+SELECT fn, ln, fn || ' ' || ln, 'perf-' || s.n,
+       cat.name || ' ' || (ARRAY['Specialist', 'Expert', 'Technician', 'Consultant', 'Professional'])[1 + s.n % 5]
+           || ' | ' || (ARRAY['Residential & Commercial', 'Same-day Service', 'Certified', '10+ Years', 'Affordable Rates'])[1 + (s.n / 5) % 5],
+       'Experienced ' || lower(cat.name) || ' professional serving ' || c.city || ' and nearby areas. '
+           || (ARRAY['Available on weekends.', 'Free estimates.', 'Fully insured.', 'Trusted by 200+ families.'])[1 + s.n % 4],
+       c.city, c.state, 'India',
+       random() < 0.1, random() < 0.3, random() < 0.8,
+       CASE WHEN random() < 0.2 THEN NULL ELSE round(CAST(3 + random() * 2 AS NUMERIC), 2) END,
+       floor(random() * 250), 'INR', 'perf' || s.n || '@example.test',
+       cat.id,
+       CASE WHEN s.no_geo THEN NULL ELSE c.lat + (random() - 0.5) * 1.0 END,
+       CASE WHEN s.no_geo THEN NULL ELSE c.lng + (random() - 0.5) * 1.0 END
+FROM (
+    SELECT n,
+           floor(power(random(), 2) * 12)                                   AS city_idx,
+           1 + floor(random() * (SELECT count(*) FROM categories))          AS cat_rank,
+           random() < 0.1                                                   AS no_geo,
+           (ARRAY['Arjun','Ravi','Priya','Meena','Suresh','Deepika','Mohan','Ananya','Vikram','Kavya','Rahul','Sneha'])[1 + CAST(floor(random() * 12) AS INT)] AS fn,
+           (ARRAY['Sharma','Kumar','Nair','Iyer','Babu','Rao','Das','Krishnan','Hegde','Gowda','Patel','Reddy'])[1 + CAST(floor(random() * 12) AS INT)] AS ln
+    FROM generate_series(1, CAST(current_setting('perf.rows') AS INT)) n
+) s
+JOIN perf_cities c ON c.idx = s.city_idx
+JOIN (SELECT id, name, row_number() OVER (ORDER BY id) AS cat_rank FROM categories) cat ON cat.cat_rank = s.cat_rank ^^
+
+-- ============================================================
+-- SUBCATEGORIES  (1–3 from the professional's own category)
+-- ============================================================
+INSERT INTO professional_subcategories (professional_id, subcategory_id)
+SELECT p.id, sc.id
+FROM professionals p
+JOIN LATERAL (
+    SELECT id FROM subcategories WHERE category_id = p.category_id ORDER BY random() LIMIT 1 + p.id % 3
+) sc ON TRUE
+WHERE p.slug LIKE 'perf-%'
+ON CONFLICT DO NOTHING ^^
+
+-- ============================================================
+-- SERVICE AREAS  (1–4 localities in the professional's city)
+-- ============================================================
+INSERT INTO professional_service_areas (professional_id, area_name)
+SELECT p.id, a.name
+FROM professionals p
+JOIN perf_cities c ON c.city = p.city
+JOIN LATERAL (
+    SELECT name FROM perf_areas WHERE city_idx = c.idx ORDER BY random() LIMIT 1 + p.id % 4
+) a ON TRUE
+WHERE p.slug LIKE 'perf-%' ^^
+
+-- ============================================================
+-- SERVICES  (one per subcategory; the per-row reindex trigger is replaced by one bulk update)
+-- ============================================================
+ALTER TABLE services DISABLE TRIGGER trig_services_reindex ^^
+INSERT INTO services (professional_id, title, price_min, price_max, currency, price_unit)
+SELECT ps.professional_id, sc.name, 300, 300 + floor(random() * 2000), 'INR', 'per visit'
+FROM professional_subcategories ps
+JOIN subcategories sc ON sc.id = ps.subcategory_id
+JOIN professionals p  ON p.id = ps.professional_id
+WHERE p.slug LIKE 'perf-%' ^^
+ALTER TABLE services ENABLE TRIGGER trig_services_reindex ^^
+
+-- Re-fires the FTS trigger so search_vector includes the service titles
+UPDATE professionals SET search_vector = NULL WHERE slug LIKE 'perf-%' ^^
+
+-- ============================================================
+-- READ MODEL + STATISTICS
+-- ============================================================
+SELECT count(refresh_professional_search_doc(id)) FROM professionals ^^
+
+VACUUM ANALYZE ^^